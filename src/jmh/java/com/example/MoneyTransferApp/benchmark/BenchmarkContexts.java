@@ -0,0 +1,35 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.MoneyTransferAppApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Boots the application without the web layer against a fresh embedded H2 database.
+ */
+final class BenchmarkContexts {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        // Passed as command line arguments so they win over application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark" + DATABASES.incrementAndGet(),
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(MoneyTransferAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.entity.TransactionSummary;
+import com.example.MoneyTransferApp.service.serviceImpl.ColumnarDayFile;
+import com.example.MoneyTransferApp.service.serviceImpl.ColumnarDayWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A year of closed days in columnar files, mapped once per trial: summarizing every day and listing
+ * one account's transactions across the year, with no database involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarArchiveBenchmark {
+
+    private static final int DAYS = 365;
+    private static final int ACCOUNTS = 100_000;
+
+    @Param({"20000"})
+    private int rowsPerDay;
+
+    private Path directory;
+    private List<ColumnarDayFile> files;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("columnar-benchmark");
+        files = new ArrayList<>(DAYS);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate firstDay = LocalDate.now().minusDays(DAYS);
+        for (int d = 0; d < DAYS; d++) {
+            LocalDate day = firstDay.plusDays(d);
+            ColumnarDayWriter writer = new ColumnarDayWriter(day);
+            for (int i = 0; i < rowsPerDay; i++) {
+                long amount = random.nextLong(100, 1_000_000);
+                long fee = Math.min(amount / 200, 10_000);
+                writer.add(UUID.randomUUID().toString(),
+                        String.valueOf(1_000_000_000L + random.nextInt(ACCOUNTS)),
+                        String.valueOf(1_000_000_000L + random.nextInt(ACCOUNTS)),
+                        amount, fee, amount + fee, i % 10 == 0 ? "FAILED" : "SUCCESSFUL",
+                        i % 2 == 0, fee / 5, day.atStartOfDay().plusNanos(i * (86_400_000_000_000L / rowsPerDay)));
+            }
+            Path file = directory.resolve("transactions-" + day + ".col");
+            writer.write(file);
+            files.add(ColumnarDayFile.open(file));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<TransactionSummary> summarizeYear() {
+        List<TransactionSummary> summaries = new ArrayList<>(DAYS);
+        for (ColumnarDayFile file : files) {
+            summaries.add(file.summarize());
+        }
+        return summaries;
+    }
+
+    @Benchmark
+    public List<TransactionResponse> accountYear() {
+        List<TransactionResponse> matches = new ArrayList<>();
+        for (ColumnarDayFile file : files) {
+            matches.addAll(file.findByAccount("1000000042"));
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.dto.FeeTierRule;
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.enums.AccountClass;
+import com.example.MoneyTransferApp.service.serviceImpl.FeeSchedule;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fee calculation per transfer. Run with {@code -prof gc} to compare gc.alloc.rate.norm between the
+ * BigDecimal baseline (rates parsed on every call, as the service used to) and the pre-parsed
+ * {@link FeeSchedule}. {@code tieredFeeSchedule} looks the fee up in a table of {@code tiers} rules
+ * per account class to show the binary search keeps tier count off the hot path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeeCalculationBenchmark {
+
+    @Param({"10.00", "2500.50", "1000000.00"})
+    private String amount;
+
+    @Param({"1", "64", "4096"})
+    private int tiers;
+
+    private FeeSchedule feeSchedule;
+    private FeeSchedule tieredSchedule;
+    private BigDecimal transferAmount;
+    private Money transferMoney;
+    private long transferMinorUnits;
+
+    @Setup
+    public void setUp() {
+        feeSchedule = FeeSchedule.flat("0.005", "100");
+        tieredSchedule = FeeSchedule.compile(tierRules(tiers));
+        transferAmount = new BigDecimal(amount);
+        transferMoney = Money.of(transferAmount);
+        transferMinorUnits = transferMoney.getMinorUnits();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalBaseline() {
+        BigDecimal feePercentage = new BigDecimal("0.005");
+        BigDecimal feeCap = new BigDecimal("100");
+
+        BigDecimal fee = transferAmount.multiply(feePercentage).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal transactionFee = fee.compareTo(feeCap) > 0 ? feeCap : fee;
+        return transferAmount.add(transactionFee);
+    }
+
+    @Benchmark
+    public Money feeSchedule() {
+        return transferMoney.plus(feeSchedule.transactionFee(AccountClass.STANDARD, transferMoney));
+    }
+
+    @Benchmark
+    public long tieredFeeSchedule() {
+        return transferMinorUnits + tieredSchedule.transactionFeeMinor(AccountClass.PREMIUM, transferMinorUnits);
+    }
+
+    @Benchmark
+    public long feeScheduleMinorUnits() {
+        return transferMinorUnits + feeSchedule.transactionFeeMinor(AccountClass.STANDARD, transferMinorUnits);
+    }
+
+    private static List<FeeTierRule> tierRules(int tiers) {
+        List<FeeTierRule> rules = new ArrayList<>();
+        for (AccountClass accountClass : new AccountClass[]{null, AccountClass.PREMIUM}) {
+            for (int i = 0; i < tiers; i++) {
+                FeeTierRule rule = new FeeTierRule();
+                rule.setAccountClass(accountClass);
+                rule.setMinAmount(BigDecimal.valueOf(i * 500L));
+                rule.setPercentage("0.005");
+                rule.setFixedFee(new BigDecimal("0.10"));
+                rule.setCap(new BigDecimal("100"));
+                rules.add(rule);
+            }
+        }
+        return rules;
+    }
+}
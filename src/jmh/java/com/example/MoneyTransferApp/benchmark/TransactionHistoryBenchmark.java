@@ -0,0 +1,108 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.dto.TransactionFilterRequest;
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of transaction history loaded as entities and mapped to responses (the old path) versus
+ * selected straight into responses. Run with {@code -prof gc} and compare gc.alloc.rate.norm for
+ * the bytes allocated per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionHistoryBenchmark {
+
+    private static final int ROWS = 50_000;
+
+    @Param({"status", "account"})
+    private String filter;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private TransactionRepository transactionRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionFilterRequest filterRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        transactionService = context.getBean(TransactionService.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        List<Object[]> batch = new ArrayList<>(5000);
+        for (int i = 0; i < ROWS; i++) {
+            String id = UUID.randomUUID().toString();
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i * 30L));
+            batch.add(new Object[]{id, id, "100000000" + (1 + i % 5), "100000000" + (1 + (i + 1) % 5),
+                    new BigDecimal("100.00"), new BigDecimal("0.50"), new BigDecimal("100.50"), "Benchmark transfer",
+                    i % 10 == 0 ? "FAILED" : "SUCCESSFUL", "Transfer completed successfully", i % 2 == 0,
+                    new BigDecimal("0.10"), createdAt, createdAt});
+            if (batch.size() == 5000 || i == ROWS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO transactions (id, reference, source_account_number, " +
+                        "destination_account_number, amount, transaction_fee, billed_amount, description, status, " +
+                        "status_message, commission_worthy, commission, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        filterRequest = new TransactionFilterRequest();
+        if ("account".equals(filter)) {
+            filterRequest.setAccountNumber("1000000001");
+        } else {
+            filterRequest.setStatus(TransactionStatus.SUCCESSFUL);
+        }
+        filterRequest.setPage(2);
+        filterRequest.setSize(pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TransactionResponse> entityPage() {
+        return readOnlyTransaction.execute(status -> transactionRepository.findTransactionsWithFilters(
+                        filterRequest.getStatus(),
+                        filterRequest.getAccountNumber(),
+                        filterRequest.getStartDate(),
+                        filterRequest.getEndDate(),
+                        PageRequest.of(filterRequest.getPage(), filterRequest.getSize()))
+                .map(TransactionResponse::fromTransaction));
+    }
+
+    @Benchmark
+    public Page<TransactionResponse> projectionPage() {
+        return transactionService.getTransactionsWithFilters(filterRequest);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        transactions = new ArrayList<>(ROWS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            String id = UUID.randomUUID().toString();
+            transactions.add(Transaction.builder()
+                    .id(id)
+                    .reference(id)
+                    .sourceAccountNumber("1000000001")
+                    .destinationAccountNumber("1000000002")
+                    .amount(new BigDecimal("100.00"))
+                    .transactionFee(new BigDecimal("0.50"))
+                    .billedAmount(new BigDecimal("100.50"))
+                    .description("Benchmark transfer " + i)
+                    .status(TransactionStatus.SUCCESSFUL)
+                    .statusMessage("Transfer completed successfully")
+                    .commission(BigDecimal.ZERO)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<TransactionResponse> fromTransaction() {
+        return transactions.stream().map(TransactionResponse::fromTransaction).toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily summary for a closed day recomputed from the seeded rows (what the nightly job does), the
+ * same day served from the summary cache, and today from the live counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionSummaryBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private LocalDate yesterday;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("transfer.summary.live-counters.enabled=true");
+        transactionService = context.getBean(TransactionService.class);
+        today = LocalDate.now();
+        yesterday = today.minusDays(1);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> batch = new ArrayList<>(5000);
+        for (int i = 0; i < rows; i++) {
+            String id = UUID.randomUUID().toString();
+            Timestamp createdAt = Timestamp.valueOf(yesterday.atStartOfDay().plusSeconds(i % 86_400));
+            batch.add(new Object[]{id, id, "1000000001", "1000000002", new BigDecimal("100.00"), new BigDecimal("0.50"),
+                    new BigDecimal("100.50"), i % 10 == 0 ? "FAILED" : "SUCCESSFUL", i % 2 == 0,
+                    new BigDecimal("0.10"), createdAt, createdAt});
+            if (batch.size() == 5000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO transactions (id, reference, source_account_number, " +
+                        "destination_account_number, amount, transaction_fee, billed_amount, status, commission_worthy, " +
+                        "commission, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionSummaryResponse aggregateSummary() {
+        return transactionService.generateTransactionSummary(yesterday);
+    }
+
+    @Benchmark
+    public TransactionSummaryResponse cachedSummary() {
+        return transactionService.getTransactionSummary(yesterday);
+    }
+
+    @Benchmark
+    public TransactionSummaryResponse liveSummary() {
+        return transactionService.getTransactionSummary(today);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.AccountMetadataCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end processTransfer against embedded H2. UNIFORM spreads transfers over all seeded
+ * accounts; HOT sends nine out of ten transfers through a handful of accounts. Transfers that lose
+ * a lock conflict are counted as {@code failed} instead of aborting the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferBenchmark {
+
+    private static final int ACCOUNTS = 1000;
+    private static final int HOT_ACCOUNTS = 4;
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    public enum Skew { UNIFORM, HOT }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long succeeded;
+        public long failed;
+    }
+
+    @Param({"PESSIMISTIC", "CONDITIONAL", "LEDGER", "SHARDED"})
+    private String engine;
+
+    @Param({"UNIFORM", "HOT"})
+    private Skew skew;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("transfer.engine.mode=" + engine);
+        transactionService = context.getBean(TransactionService.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(new Object[]{account(i), "Benchmark account " + i, new BigDecimal("1000000000000.00"), now, now});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate("INSERT INTO accounts (account_number, account_name, balance, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?)", accounts);
+        context.getBean(AccountMetadataCache.class).reloadKnownAccounts();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void transfer1Thread(Outcomes outcomes) {
+        transfer(outcomes);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void transfer8Threads(Outcomes outcomes) {
+        transfer(outcomes);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void transfer64Threads(Outcomes outcomes) {
+        transfer(outcomes);
+    }
+
+    private void transfer(Outcomes outcomes) {
+        try {
+            transactionService.processTransfer(nextTransfer());
+            outcomes.succeeded++;
+        } catch (ConcurrencyFailureException ex) {
+            outcomes.failed++;
+        }
+    }
+
+    private TransferRequest nextTransfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = pick(random);
+        int dest = pick(random);
+        while (dest == source) {
+            dest = random.nextInt(ACCOUNTS);
+        }
+
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(account(source));
+        request.setDestinationAccountNumber(account(dest));
+        request.setAmount(AMOUNT);
+        return request;
+    }
+
+    private int pick(ThreadLocalRandom random) {
+        if (skew == Skew.HOT && random.nextInt(10) != 0) {
+            return random.nextInt(HOT_ACCOUNTS);
+        }
+        return random.nextInt(ACCOUNTS);
+    }
+
+    private static String account(int index) {
+        return String.valueOf(3_000_000_000L + index);
+    }
+}
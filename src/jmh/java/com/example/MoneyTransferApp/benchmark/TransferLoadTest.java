@@ -0,0 +1,212 @@
+package com.example.MoneyTransferApp.benchmark;
+
+import com.example.MoneyTransferApp.MoneyTransferAppApplication;
+import com.example.MoneyTransferApp.service.serviceImpl.AccountMetadataCache;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP load test of POST /api/transactions/transfer, comparing Tomcat on platform threads with
+ * Tomcat on virtual threads. Each mode boots the application on a random port against a fresh H2
+ * database, seeds accounts and drives it from a fixed number of closed-loop clients; throughput and
+ * latency percentiles of the measured window are printed per mode. Virtual threads need a Java 21
+ * runtime; on older runtimes that mode is skipped.
+ *
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec@load-test -Dload.args="clients=512 hot-accounts=10"
+ * </pre>
+ *
+ * Options, as name=value with an optional leading --: modes=platform,virtual clients=256
+ * warmup-seconds=5 seconds=20 accounts=1000 hot-accounts=0 (when set, every transfer debits one of
+ * this many accounts to provoke lock waits) and engine=PESSIMISTIC. Any other --name=value is passed
+ * to the application.
+ */
+public final class TransferLoadTest {
+
+    private static final String DATABASE = "jdbc:h2:mem:loadtest";
+
+    private TransferLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would otherwise restart this main method inside its own class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, String> options = new HashMap<>(Map.of(
+                "modes", "platform,virtual",
+                "clients", "256",
+                "warmup-seconds", "5",
+                "seconds", "20",
+                "accounts", "1000",
+                "hot-accounts", "0",
+                "engine", "PESSIMISTIC"));
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            if (options.containsKey(option[0]) && option.length == 2) {
+                options.put(option[0], option[1]);
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : options.get("modes").split(",")) {
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                System.out.println("Skipping virtual mode: requires Java 21, running on " + Runtime.version());
+                continue;
+            }
+            results.add(run(mode, options, applicationArgs));
+        }
+
+        System.out.printf("%n%-10s %10s %10s %8s %10s %10s %10s%n", "mode", "requests", "ok/s", "errors", "p50 ms", "p99 ms", "max ms");
+        for (Result result : results) {
+            System.out.printf("%-10s %10d %10.1f %8d %10.2f %10.2f %10.2f%n", result.mode, result.latencies.length,
+                    result.throughput(), result.errors, result.percentile(50), result.percentile(99), result.percentile(100));
+        }
+    }
+
+    private static Result run(String mode, Map<String, String> options, List<String> applicationArgs) throws Exception {
+        int accounts = Integer.parseInt(options.get("accounts"));
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + DATABASE + mode,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web.filter.CommonsRequestLoggingFilter=WARN",
+                "--transfer.engine.mode=" + options.get("engine"),
+                "--spring.threads.virtual.enabled=" + mode.equals("virtual")));
+        args.addAll(applicationArgs);
+
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(MoneyTransferAppApplication.class).run(args.toArray(new String[0]))) {
+            seedAccounts(context.getBean(JdbcTemplate.class), accounts);
+            context.getBean(AccountMetadataCache.class).reloadKnownAccounts();
+
+            URI transferUri = URI.create("http://localhost:" + context.getWebServer().getPort() + "/api/transactions/transfer");
+            System.out.printf("Running %s mode: %s clients for %ss after %ss of warmup%n",
+                    mode, options.get("clients"), options.get("seconds"), options.get("warmup-seconds"));
+            return drive(mode, transferUri, options, accounts);
+        }
+    }
+
+    private static Result drive(String mode, URI transferUri, Map<String, String> options, int accounts) throws Exception {
+        int clients = Integer.parseInt(options.get("clients"));
+        int hotAccounts = Integer.parseInt(options.get("hot-accounts"));
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("warmup-seconds")));
+        long measureEnd = warmupEnd + TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("seconds")));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<ClientStats> stats = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            ClientStats client = new ClientStats();
+            stats.add(client);
+            executor.execute(() -> {
+                while (System.nanoTime() < measureEnd) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int source = random.nextInt(hotAccounts > 0 ? hotAccounts : accounts);
+                    int destination = (source + 1 + random.nextInt(accounts - 1)) % accounts;
+                    HttpRequest request = HttpRequest.newBuilder(transferUri)
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofSeconds(60))
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"sourceAccountNumber\":\"" + account(source)
+                                    + "\",\"destinationAccountNumber\":\"" + account(destination) + "\",\"amount\":1.00}"))
+                            .build();
+
+                    long startedAt = System.nanoTime();
+                    boolean succeeded;
+                    try {
+                        succeeded = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                    } catch (Exception ex) {
+                        succeeded = false;
+                    }
+                    long finishedAt = System.nanoTime();
+                    if (startedAt >= warmupEnd && finishedAt <= measureEnd) {
+                        client.record(finishedAt - startedAt, succeeded);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(measureEnd - System.nanoTime() + TimeUnit.MINUTES.toNanos(2), TimeUnit.NANOSECONDS);
+
+        return Result.merge(mode, stats, measureEnd - warmupEnd);
+    }
+
+    private static void seedAccounts(JdbcTemplate jdbcTemplate, int accounts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            rows.add(new Object[]{account(i), "Load test account " + i, new BigDecimal("1000000000000.00"), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO accounts (account_number, account_name, balance, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    private static String account(int index) {
+        return String.valueOf(4_000_000_000L + index);
+    }
+
+    private static final class ClientStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private void record(long latencyNanos, boolean succeeded) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!succeeded) {
+                errors++;
+            }
+        }
+    }
+
+    private record Result(String mode, long[] latencies, long errors, long windowNanos) {
+
+        private static Result merge(String mode, List<ClientStats> stats, long windowNanos) {
+            long[] latencies = stats.stream()
+                    .flatMapToLong(client -> Arrays.stream(client.latencies, 0, client.count))
+                    .sorted()
+                    .toArray();
+            long errors = stats.stream().mapToLong(client -> client.errors).sum();
+            return new Result(mode, latencies, errors, windowNanos);
+        }
+
+        private double throughput() {
+            return (latencies.length - errors) / (windowNanos / 1e9);
+        }
+
+        private double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
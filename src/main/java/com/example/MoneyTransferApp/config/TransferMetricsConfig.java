@@ -0,0 +1,75 @@
+package com.example.MoneyTransferApp.config;
+
+import com.example.MoneyTransferApp.service.serviceImpl.AsyncTransferQueue;
+import com.example.MoneyTransferApp.service.serviceImpl.ShardedTransferEngine;
+import com.example.MoneyTransferApp.service.serviceImpl.TransferRetryExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Gauges over state the transfer components already keep. Connection pool usage comes from the
+ * Hikari metrics Spring Boot registers for both pools ({@code hikaricp.connections.*}, tagged by
+ * pool name).
+ */
+@Configuration
+public class TransferMetricsConfig {
+
+    @Bean
+    public MeterBinder asyncTransferQueueMetrics(AsyncTransferQueue asyncTransferQueue) {
+        return registry -> Gauge.builder("transfer.async.queued", asyncTransferQueue, AsyncTransferQueue::getQueuedTransfers)
+                .description("Transfers waiting for a background worker")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder transferRetryMetrics(TransferRetryExecutor transferRetryExecutor) {
+        return registry -> {
+            retryCounter(registry, transferRetryExecutor, "retried", TransferRetryExecutor.RetryStats::retries);
+            retryCounter(registry, transferRetryExecutor, "recovered", TransferRetryExecutor.RetryStats::recovered);
+            retryCounter(registry, transferRetryExecutor, "exhausted", TransferRetryExecutor.RetryStats::exhausted);
+            retryCounter(registry, transferRetryExecutor, "budget_rejected", TransferRetryExecutor.RetryStats::budgetRejections);
+            Gauge.builder("transfer.retry.budget", transferRetryExecutor, executor -> executor.getStats().remainingBudget())
+                    .description("Retries that can still be spent before contended transfers are refused")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder shardedEngineMetrics(ObjectProvider<ShardedTransferEngine> shardedTransferEngine) {
+        return registry -> shardedTransferEngine.ifAvailable(engine -> engine.getShardStats().forEach(initial -> {
+            int shard = initial.shard();
+            String tag = String.valueOf(shard);
+            Gauge.builder("transfer.shard.queue.depth", engine, e -> e.getShardStats().get(shard).queueDepth())
+                    .tag("shard", tag)
+                    .register(registry);
+            FunctionCounter.builder("transfer.shard.commands", engine, e -> e.getShardStats().get(shard).processed())
+                    .tag("shard", tag)
+                    .register(registry);
+            TimeGauge.builder("transfer.shard.latency.mean", engine, TimeUnit.MICROSECONDS,
+                            e -> e.getShardStats().get(shard).meanLatencyMicros())
+                    .tag("shard", tag)
+                    .register(registry);
+            TimeGauge.builder("transfer.shard.latency.max", engine, TimeUnit.MICROSECONDS,
+                            e -> e.getShardStats().get(shard).maxLatencyMicros())
+                    .tag("shard", tag)
+                    .register(registry);
+        }));
+    }
+
+    private void retryCounter(MeterRegistry registry, TransferRetryExecutor executor,
+                              String outcome, ToDoubleFunction<TransferRetryExecutor.RetryStats> value) {
+        FunctionCounter.builder("transfer.retry", executor, e -> value.applyAsDouble(e.getStats()))
+                .description("Retries of transfers that hit lock or serialization failures")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
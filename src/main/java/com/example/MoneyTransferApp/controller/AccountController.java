@@ -0,0 +1,32 @@
+package com.example.MoneyTransferApp.controller;
+
+import com.example.MoneyTransferApp.dto.CursorPagedResponse;
+import com.example.MoneyTransferApp.dto.LedgerEntryResponse;
+import com.example.MoneyTransferApp.service.AccountStatementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/accounts")
+@RequiredArgsConstructor
+@Slf4j
+public class AccountController {
+
+    private final AccountStatementService accountStatementService;
+
+    @GetMapping("/{accountNumber}/statement")
+    public ResponseEntity<CursorPagedResponse<LedgerEntryResponse>> getStatement(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Fetching statement for account {} - cursor: {}, size: {}", accountNumber, cursor, size);
+        return ResponseEntity.ok(accountStatementService.getStatement(accountNumber, cursor, size));
+    }
+}
@@ -1,18 +1,25 @@
 package com.example.MoneyTransferApp.controller;
 
 import com.example.MoneyTransferApp.dto.*;
+import com.example.MoneyTransferApp.enums.ExportFormat;
 import com.example.MoneyTransferApp.enums.TransactionStatus;
 import com.example.MoneyTransferApp.exception.AccountNotFoundException;
 import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.exception.InvalidTransactionException;
 import com.example.MoneyTransferApp.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.net.URI;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -27,25 +34,47 @@ public class TransactionController {
     private final TransactionService transactionService;
 
     @PostMapping("/transfer")
-    public ResponseEntity<?> transferFunds(@Valid @RequestBody TransferRequest request) {
-        log.info("Received transfer request from account {} to account {}",
-                request.getSourceAccountNumber(), request.getDestinationAccountNumber());
+    public ResponseEntity<?> transferFunds(@Valid @RequestBody TransferRequest request,
+                                           @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                           @RequestParam(defaultValue = "sync") String mode) {
+        log.info("Received {} transfer request from account {} to account {}",
+                mode, request.getSourceAccountNumber(), request.getDestinationAccountNumber());
 
-        TransactionResponse response = transactionService.processTransfer(request);
+        if ("async".equalsIgnoreCase(mode)) {
+            TransactionResponse response = transactionService.submitTransfer(request, idempotencyKey);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/transactions/" + response.getReference()))
+                    .body(response);
+        }
+        if (!"sync".equalsIgnoreCase(mode)) {
+            throw new InvalidTransactionException("Unsupported transfer mode: " + mode);
+        }
+
+        TransactionResponse response = transactionService.processTransfer(request, idempotencyKey);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/transfers:batch")
+    public ResponseEntity<BatchTransferResponse> transferFundsInBatch(@Valid @RequestBody BatchTransferRequest request) {
+        log.info("Received batch transfer request with {} transfers", request.getTransfers().size());
+
+        BatchTransferResponse response = transactionService.processTransfers(request.getTransfers());
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<PagedResponse<TransactionResponse>> getTransactions(
+    public ResponseEntity<?> getTransactions(
             @RequestParam(required = false) TransactionStatus status,
             @RequestParam(required = false) String accountNumber,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        log.info("Fetching paginated transactions - status: {}, accountNumber: {}, startDate: {}, endDate: {}, page: {}, size: {}",
-                status, accountNumber, startDate, endDate, page, size);
+        log.info("Fetching paginated transactions - status: {}, accountNumber: {}, startDate: {}, endDate: {}, page: {}, size: {}, cursor: {}",
+                status, accountNumber, startDate, endDate, page, size, cursor);
 
         TransactionFilterRequest filterRequest = new TransactionFilterRequest();
         filterRequest.setStatus(status);
@@ -55,6 +84,13 @@ public class TransactionController {
         filterRequest.setPage(Math.max(page - 1, 0));
         filterRequest.setSize(size);
 
+        // Passing a cursor, even an empty one, switches to keyset paging without a count query
+        if (cursor != null) {
+            filterRequest.setCursor(cursor);
+            filterRequest.setIncludeTotal(includeTotal);
+            return ResponseEntity.ok(transactionService.getTransactionsAfterCursor(filterRequest));
+        }
+
         Page<TransactionResponse> transactionPage = transactionService.getTransactionsWithFilters(filterRequest);
 
         PagedResponse<TransactionResponse> response = new PagedResponse<>();
@@ -71,6 +107,47 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) TransactionStatus status,
+            @RequestParam(required = false) String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        log.info("Exporting transactions - status: {}, accountNumber: {}, startDate: {}, endDate: {}, format: {}",
+                status, accountNumber, startDate, endDate, format);
+
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTransactionException("Unsupported export format: " + format);
+        }
+
+        TransactionFilterRequest filterRequest = new TransactionFilterRequest();
+        filterRequest.setStatus(status);
+        filterRequest.setAccountNumber(accountNumber);
+        filterRequest.setStartDate(startDate != null ? startDate.atStartOfDay() : null);
+        filterRequest.setEndDate(endDate != null ? endDate.atTime(LocalTime.MAX) : null);
+
+        StreamingResponseBody body = outputStream ->
+                transactionService.exportTransactions(filterRequest, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/{reference}")
+    public ResponseEntity<TransactionResponse> getTransaction(@PathVariable String reference) {
+        log.info("Fetching transaction with reference: {}", reference);
+        return ResponseEntity.ok(transactionService.getTransaction(reference));
+    }
+
     @GetMapping("/summary")
     public ResponseEntity<TransactionSummaryResponse> getTransactionSummary(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
@@ -0,0 +1,15 @@
+package com.example.MoneyTransferApp.dto;
+
+import com.example.MoneyTransferApp.enums.AccountClass;
+
+/**
+ * The parts of an account that rarely change, safe to cache apart from the balance.
+ */
+public record AccountMetadata(Long id, String accountNumber, String accountName, AccountClass accountClass) {
+
+    public AccountMetadata {
+        if (accountClass == null) {
+            accountClass = AccountClass.STANDARD;
+        }
+    }
+}
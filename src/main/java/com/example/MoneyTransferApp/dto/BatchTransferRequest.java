@@ -0,0 +1,15 @@
+package com.example.MoneyTransferApp.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchTransferRequest {
+
+    @NotEmpty(message = "At least one transfer is required")
+    @Size(max = 50000, message = "A batch cannot contain more than 50000 transfers")
+    private List<TransferRequest> transfers;
+}
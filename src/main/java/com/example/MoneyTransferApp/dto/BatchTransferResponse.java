@@ -0,0 +1,16 @@
+package com.example.MoneyTransferApp.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchTransferResponse {
+
+    private int totalTransfers;
+    private int successfulTransfers;
+    private int failedTransfers;
+    private List<BatchTransferResult> results;
+}
@@ -0,0 +1,20 @@
+package com.example.MoneyTransferApp.dto;
+
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class BatchTransferResult {
+
+    private int index;
+    private String id;
+    private String reference;
+    private TransactionStatus status;
+    private String statusMessage;
+    private BigDecimal transactionFee;
+    private BigDecimal billedAmount;
+}
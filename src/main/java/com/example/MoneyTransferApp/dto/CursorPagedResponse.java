@@ -0,0 +1,16 @@
+package com.example.MoneyTransferApp.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class CursorPagedResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+    private String nextCursor;
+    // Only filled in when the caller asks for it with includeTotal=true
+    private Long totalElements;
+}
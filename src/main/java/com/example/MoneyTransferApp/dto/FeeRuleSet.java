@@ -0,0 +1,12 @@
+package com.example.MoneyTransferApp.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class FeeRuleSet {
+
+    private List<FeeTierRule> tiers = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.example.MoneyTransferApp.dto;
+
+import com.example.MoneyTransferApp.enums.AccountClass;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of a fee rule table: transfers of at least {@code minAmount} pay
+ * {@code fixedFee + amount * percentage}, limited to {@code cap} when one is set. Rules without an
+ * account class form the default table used by every class that has no table of its own.
+ */
+@Data
+public class FeeTierRule {
+
+    private AccountClass accountClass;
+    private BigDecimal minAmount = BigDecimal.ZERO;
+    private String percentage = "0";
+    private BigDecimal fixedFee = BigDecimal.ZERO;
+    private BigDecimal cap;
+}
@@ -0,0 +1,20 @@
+package com.example.MoneyTransferApp.dto;
+
+import com.example.MoneyTransferApp.enums.LedgerEntryType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class LedgerEntryResponse {
+
+    private Long id;
+    private String transactionId;
+    private LedgerEntryType entryType;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,109 @@
+package com.example.MoneyTransferApp.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount held as a whole number of minor units (cents). Arithmetic stays on {@code long}, so
+ * the transfer path does not allocate intermediate {@link BigDecimal}s; conversion happens once
+ * where amounts enter or leave the database and the API.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    // Rates are fixed point with six decimals, e.g. 0.005 is 5000
+    public static final int RATE_SCALE = 6;
+    private static final long RATE_ONE = 1_000_000L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Parses a rate such as "0.005" into the fixed point form used by {@link #applyRate(long, long)}.
+     */
+    public static long parseRate(String rate) {
+        return new BigDecimal(rate.trim()).movePointRight(RATE_SCALE).longValueExact();
+    }
+
+    /**
+     * Multiplies minor units by a fixed point rate, rounding HALF_UP exactly like
+     * {@code amount.multiply(rate).setScale(2, RoundingMode.HALF_UP)}.
+     */
+    public static long applyRate(long minorUnits, long rate) {
+        long high = Math.multiplyHigh(minorUnits, rate);
+        long product = minorUnits * rate;
+        if (high != (product >> 63)) {
+            return BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(rate))
+                    .divide(BigDecimal.valueOf(RATE_ONE), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+        }
+
+        long quotient = product / RATE_ONE;
+        long remainder = Math.abs(product % RATE_ONE);
+        if (remainder * 2 >= RATE_ONE) {
+            quotient += product < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money applyRate(long rate) {
+        return ofMinor(applyRate(minorUnits, rate));
+    }
+
+    public Money min(Money other) {
+        return minorUnits <= other.minorUnits ? this : other;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && money.minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
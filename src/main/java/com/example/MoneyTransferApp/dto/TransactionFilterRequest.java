@@ -29,4 +29,9 @@ public class TransactionFilterRequest {
     @Min(value = 1, message = "Page size must be at least 1")
     @Max(value = 100, message = "Page size cannot be greater than 100")
     private int size = 10;
+
+    // Opaque keyset cursor; an empty value asks for the first page in cursor mode
+    private String cursor;
+
+    private boolean includeTotal;
 }
@@ -2,6 +2,7 @@ package com.example.MoneyTransferApp.dto;
 
 import com.example.MoneyTransferApp.entity.Transaction;
 import com.example.MoneyTransferApp.enums.TransactionStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class TransactionResponse {
 
     private String id;
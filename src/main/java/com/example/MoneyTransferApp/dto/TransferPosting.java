@@ -0,0 +1,36 @@
+package com.example.MoneyTransferApp.dto;
+
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import lombok.Data;
+
+@Data
+public class TransferPosting {
+
+    private final String sourceAccountNumber;
+    private final String destinationAccountNumber;
+    private final Money amount;
+    private final Money billedAmount;
+    private TransactionStatus status = TransactionStatus.PENDING;
+    private String statusMessage;
+    // Set by the caller before its transaction commits; engines that post after commit need it
+    private String transactionId;
+    // Balances left behind by a successful posting; null when the engine only posts after commit
+    private Money sourceBalanceAfter;
+    private Money destinationBalanceAfter;
+
+    public void succeed(Money sourceBalanceAfter, Money destinationBalanceAfter) {
+        this.status = TransactionStatus.SUCCESSFUL;
+        this.statusMessage = "Transfer completed successfully";
+        this.sourceBalanceAfter = sourceBalanceAfter;
+        this.destinationBalanceAfter = destinationBalanceAfter;
+    }
+
+    public void reject(TransactionStatus status, String statusMessage) {
+        this.status = status;
+        this.statusMessage = statusMessage;
+    }
+
+    public boolean isSuccessful() {
+        return status == TransactionStatus.SUCCESSFUL;
+    }
+}
@@ -18,6 +18,7 @@ public class TransferRequest {
 
     @NotNull(message = "Amount is required")
     @DecimalMin(value = "0.01", inclusive = true, message = "Amount must be greater than 0")
+    @Digits(integer = 16, fraction = 2, message = "Amount must have at most 2 decimal places")
     private BigDecimal amount;
 
     @Size(max = 150, message = "Description must not exceed 255 characters")
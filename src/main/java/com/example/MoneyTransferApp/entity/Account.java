@@ -1,5 +1,6 @@
 package com.example.MoneyTransferApp.entity;
 
+import com.example.MoneyTransferApp.enums.AccountClass;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "accounts")
+@EntityListeners(AccountCacheListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,6 +33,11 @@ public class Account {
     @Column(name = "balance")
     private BigDecimal balance;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_class", length = 20)
+    @Builder.Default
+    private AccountClass accountClass = AccountClass.STANDARD;
+
     @OneToOne
     @JoinColumn(name = "user_id")
     private User user;
@@ -0,0 +1,34 @@
+package com.example.MoneyTransferApp.entity;
+
+import com.example.MoneyTransferApp.dto.AccountMetadata;
+import com.example.MoneyTransferApp.service.serviceImpl.AccountMetadataCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Keeps {@link AccountMetadataCache} in step with accounts written through JPA. The cache is looked
+ * up lazily because Hibernate creates listeners while the repositories the cache needs are still
+ * being built.
+ */
+public class AccountCacheListener {
+
+    private final ObjectProvider<AccountMetadataCache> accountMetadataCache;
+
+    public AccountCacheListener(ObjectProvider<AccountMetadataCache> accountMetadataCache) {
+        this.accountMetadataCache = accountMetadataCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Account account) {
+        accountMetadataCache.ifAvailable(cache -> cache.onAccountSaved(new AccountMetadata(
+                account.getId(), account.getAccountNumber(), account.getAccountName(), account.getAccountClass())));
+    }
+
+    @PostRemove
+    public void onRemoved(Account account) {
+        accountMetadataCache.ifAvailable(cache -> cache.onAccountRemoved(account.getAccountNumber()));
+    }
+}
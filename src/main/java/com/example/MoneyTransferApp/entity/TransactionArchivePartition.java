@@ -0,0 +1,37 @@
+package com.example.MoneyTransferApp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A month of archived transactions and the table holding it.
+ */
+@Entity
+@Table(name = "transaction_archive_partitions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionArchivePartition {
+
+    // yyyy-MM
+    @Id
+    @Column(name = "period", length = 7)
+    private String period;
+
+    @Column(name = "table_name", nullable = false, length = 64)
+    private String tableName;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
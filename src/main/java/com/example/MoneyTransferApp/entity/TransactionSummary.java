@@ -10,7 +10,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transaction_summaries")
+@Table(name = "transaction_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transaction_summaries_date", columnNames = "date")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,7 +24,7 @@ public class TransactionSummary {
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "date")
+    @Column(name = "date", nullable = false)
     private LocalDate date;
 
     @Column(name = "total_transactions")
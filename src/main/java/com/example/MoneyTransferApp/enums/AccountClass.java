@@ -0,0 +1,8 @@
+package com.example.MoneyTransferApp.enums;
+
+public enum AccountClass {
+
+    STANDARD,
+    PREMIUM,
+    BUSINESS
+}
@@ -0,0 +1,7 @@
+package com.example.MoneyTransferApp.enums;
+
+public enum LedgerEntryType {
+
+    DEBIT,
+    CREDIT
+}
@@ -0,0 +1,8 @@
+package com.example.MoneyTransferApp.exception;
+
+public class TransactionNotFoundException extends RuntimeException{
+
+    public TransactionNotFoundException(String message) {
+        super(message);
+    }
+}
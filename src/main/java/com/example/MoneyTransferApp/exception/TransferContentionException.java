@@ -0,0 +1,8 @@
+package com.example.MoneyTransferApp.exception;
+
+public class TransferContentionException extends RuntimeException{
+
+    public TransferContentionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
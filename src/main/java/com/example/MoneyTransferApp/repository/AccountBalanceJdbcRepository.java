@@ -0,0 +1,125 @@
+package com.example.MoneyTransferApp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+@Repository
+@RequiredArgsConstructor
+public class AccountBalanceJdbcRepository {
+
+    private static final int LOCK_CHUNK_SIZE = 500;
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private static final String DEBIT = "UPDATE accounts SET balance = balance - :amount, updated_at = :updatedAt " +
+            "WHERE account_number = :accountNumber AND balance >= :amount";
+    private static final String CREDIT = "UPDATE accounts SET balance = balance + :amount, updated_at = :updatedAt " +
+            "WHERE account_number = :accountNumber";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public Map<String, BigDecimal> lockBalances(SortedSet<String> accountNumbers) {
+        Map<String, BigDecimal> balances = new HashMap<>(accountNumbers.size() * 2);
+        List<String> chunk = new ArrayList<>(LOCK_CHUNK_SIZE);
+
+        for (String accountNumber : accountNumbers) {
+            chunk.add(accountNumber);
+            if (chunk.size() == LOCK_CHUNK_SIZE) {
+                lockChunk(chunk, balances);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            lockChunk(chunk, balances);
+        }
+        return balances;
+    }
+
+    public void updateBalances(Map<String, BigDecimal> balances) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<MapSqlParameterSource> batch = new ArrayList<>(UPDATE_BATCH_SIZE);
+
+        for (Map.Entry<String, BigDecimal> entry : balances.entrySet()) {
+            batch.add(new MapSqlParameterSource()
+                    .addValue("accountNumber", entry.getKey())
+                    .addValue("balance", entry.getValue())
+                    .addValue("updatedAt", now));
+            if (batch.size() == UPDATE_BATCH_SIZE) {
+                flushUpdates(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushUpdates(batch);
+        }
+    }
+
+    /**
+     * Debits the account only if its balance covers the amount and returns the balance left behind,
+     * or null when no row matched. The new balance comes back from the UPDATE itself, so the row lock
+     * is not held across a second round trip.
+     */
+    public BigDecimal debitIfSufficient(String accountNumber, BigDecimal amount, LocalDateTime updatedAt) {
+        return updateReturningBalance(DEBIT, accountNumber, amount, updatedAt);
+    }
+
+    /**
+     * Credits the account and returns its new balance, or null when the account does not exist.
+     */
+    public BigDecimal credit(String accountNumber, BigDecimal amount, LocalDateTime updatedAt) {
+        return updateReturningBalance(CREDIT, accountNumber, amount, updatedAt);
+    }
+
+    private BigDecimal updateReturningBalance(String update, String accountNumber, BigDecimal amount,
+                                              LocalDateTime updatedAt) {
+        // PostgreSQL returns the updated row with RETURNING, H2 through a data change delta table
+        String sql = isPostgres()
+                ? update + " RETURNING balance"
+                : "SELECT balance FROM FINAL TABLE (" + update + ")";
+        List<BigDecimal> balances = jdbcTemplate.queryForList(sql, new MapSqlParameterSource()
+                        .addValue("accountNumber", accountNumber)
+                        .addValue("amount", amount)
+                        .addValue("updatedAt", Timestamp.valueOf(updatedAt)),
+                BigDecimal.class);
+        return balances.isEmpty() ? null : balances.get(0);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = result;
+        }
+        return result;
+    }
+
+    private void lockChunk(List<String> accountNumbers, Map<String, BigDecimal> balances) {
+        jdbcTemplate.query(
+                "SELECT account_number, balance FROM accounts WHERE account_number IN (:accountNumbers) " +
+                        "ORDER BY account_number FOR UPDATE",
+                new MapSqlParameterSource("accountNumbers", accountNumbers),
+                rs -> {
+                    balances.put(rs.getString("account_number"), rs.getBigDecimal("balance"));
+                });
+    }
+
+    private void flushUpdates(List<MapSqlParameterSource> batch) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE accounts SET balance = :balance, updated_at = :updatedAt WHERE account_number = :accountNumber",
+                batch.toArray(new MapSqlParameterSource[0]));
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.MoneyTransferApp.repository;
 
+import com.example.MoneyTransferApp.dto.AccountMetadata;
 import com.example.MoneyTransferApp.entity.Account;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
@@ -15,4 +20,22 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
     Optional<Account> findByAccountNumber(@Param("accountNumber") String accountNumber);
 
+    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Account> findByAccountNumberWithoutLock(@Param("accountNumber") String accountNumber);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = :balance, a.updatedAt = :updatedAt WHERE a.accountNumber = :accountNumber")
+    int updateBalance(@Param("accountNumber") String accountNumber,
+                      @Param("balance") BigDecimal balance,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT new com.example.MoneyTransferApp.dto.AccountMetadata(a.id, a.accountNumber, a.accountName, a.accountClass) " +
+            "FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<AccountMetadata> findMetadataByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.accountNumber FROM Account a")
+    List<String> findAllAccountNumbers();
+
+    boolean existsByAccountNumber(String accountNumber);
+
 }
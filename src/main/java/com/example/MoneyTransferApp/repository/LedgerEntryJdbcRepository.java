@@ -0,0 +1,71 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.dto.LedgerEntryResponse;
+import com.example.MoneyTransferApp.entity.LedgerEntry;
+import com.example.MoneyTransferApp.enums.LedgerEntryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerEntryJdbcRepository {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO ledger_entries (account_number, transaction_id, entry_type, amount, balance_after, posted_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                entries,
+                INSERT_BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setString(1, entry.getAccountNumber());
+                    ps.setString(2, entry.getTransactionId());
+                    ps.setString(3, entry.getEntryType().name());
+                    ps.setBigDecimal(4, entry.getAmount());
+                    ps.setBigDecimal(5, entry.getBalanceAfter());
+                    ps.setTimestamp(6, Timestamp.valueOf(entry.getPostedAt()));
+                });
+    }
+
+    /**
+     * Newest entries of an account first, starting after the given (postedAt, id) position when
+     * there is one. A seek on (account_number, posted_at, id), so the cost depends on the limit only.
+     */
+    public List<LedgerEntryResponse> findStatementPage(String accountNumber, LocalDateTime afterPostedAt,
+                                                       Long afterId, int limit) {
+        String select = "SELECT id, transaction_id, entry_type, amount, balance_after, posted_at FROM ledger_entries " +
+                "WHERE account_number = ?";
+        String order = " ORDER BY posted_at DESC, id DESC LIMIT ?";
+
+        if (afterPostedAt == null) {
+            return jdbcTemplate.query(select + order, (rs, rowNum) -> toResponse(rs), accountNumber, limit);
+        }
+        Timestamp postedAt = Timestamp.valueOf(afterPostedAt);
+        return jdbcTemplate.query(select + " AND (posted_at < ? OR (posted_at = ? AND id < ?))" + order,
+                (rs, rowNum) -> toResponse(rs), accountNumber, postedAt, postedAt, afterId, limit);
+    }
+
+    private static LedgerEntryResponse toResponse(ResultSet rs) throws SQLException {
+        return LedgerEntryResponse.builder()
+                .id(rs.getLong("id"))
+                .transactionId(rs.getString("transaction_id"))
+                .entryType(LedgerEntryType.valueOf(rs.getString("entry_type")))
+                .amount(rs.getBigDecimal("amount"))
+                .balanceAfter(rs.getBigDecimal("balance_after"))
+                .postedAt(rs.getTimestamp("posted_at").toLocalDateTime())
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves finalized transactions from the hot table into the monthly archive tables, and reads
+ * them back for lookups by id or reference and for daily totals.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionArchiveJdbcRepository {
+
+    private static final String COLUMNS = "id, reference, source_account_number, destination_account_number, amount, "
+            + "transaction_fee, billed_amount, description, status, status_message, commission_worthy, commission, "
+            + "created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionPartitions transactionPartitions;
+
+    /**
+     * Oldest hot rows created before the cutoff that will not change again: failed ones, and
+     * successful ones whose commission has been applied. Pending rows stay where they are.
+     */
+    public List<ArchiveCandidate> findArchiveCandidates(LocalDateTime createdBefore, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, created_at FROM transactions WHERE created_at < ? " +
+                        "AND (status IN (?, ?) OR (status = ? AND commission_worthy = TRUE)) " +
+                        "ORDER BY created_at, id LIMIT ?",
+                (rs, rowNum) -> new ArchiveCandidate(rs.getString("id"), rs.getTimestamp("created_at").toLocalDateTime()),
+                Timestamp.valueOf(createdBefore), TransactionStatus.FAILED.name(),
+                TransactionStatus.INSUFFICIENT_FUNDS.name(), TransactionStatus.SUCCESSFUL.name(), limit);
+    }
+
+    /**
+     * Copies the rows into the archive table and deletes them from the hot one; call inside a
+     * transaction so a row is never in both or neither.
+     */
+    public int moveToArchive(String archiveTable, List<String> ids) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        namedParameterJdbcTemplate.update("INSERT INTO " + archiveTable + " (" + COLUMNS + ") " +
+                "SELECT " + COLUMNS + " FROM transactions WHERE id IN (:ids)", parameters);
+        return namedParameterJdbcTemplate.update("DELETE FROM transactions WHERE id IN (:ids)", parameters);
+    }
+
+    public Optional<TransactionResponse> findById(String id) {
+        return findInArchive("id", id);
+    }
+
+    public Optional<TransactionResponse> findByReference(String reference) {
+        return findInArchive("reference", reference);
+    }
+
+    public TransactionTotals summarizeCreatedBetween(String archiveTable, LocalDateTime startDate, LocalDateTime endDate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), " +
+                        "COALESCE(SUM(CASE WHEN status = ? THEN 1 ELSE 0 END), 0), " +
+                        "COALESCE(SUM(CASE WHEN status = ? THEN amount ELSE 0 END), 0), " +
+                        "COALESCE(SUM(CASE WHEN status = ? THEN transaction_fee ELSE 0 END), 0), " +
+                        "COALESCE(SUM(CASE WHEN commission_worthy = TRUE THEN commission ELSE 0 END), 0) " +
+                        "FROM " + archiveTable + " WHERE created_at >= ? AND created_at < ?",
+                (rs, rowNum) -> new ArchivedTotals(rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3),
+                        rs.getBigDecimal(4), rs.getBigDecimal(5)),
+                TransactionStatus.SUCCESSFUL.name(), TransactionStatus.SUCCESSFUL.name(),
+                TransactionStatus.SUCCESSFUL.name(), Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+    }
+
+    // Newest month first; the column is indexed in every archive table
+    private Optional<TransactionResponse> findInArchive(String column, String value) {
+        for (String table : transactionPartitions.allArchiveTables()) {
+            List<TransactionResponse> rows = jdbcTemplate.query(
+                    "SELECT " + COLUMNS + " FROM " + table + " WHERE " + column + " = ?",
+                    (rs, rowNum) -> toResponse(rs), value);
+            if (!rows.isEmpty()) {
+                return Optional.of(rows.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static TransactionResponse toResponse(ResultSet rs) throws SQLException {
+        return TransactionResponse.builder()
+                .id(rs.getString("id"))
+                .reference(rs.getString("reference"))
+                .sourceAccountNumber(rs.getString("source_account_number"))
+                .destinationAccountNumber(rs.getString("destination_account_number"))
+                .amount(rs.getBigDecimal("amount"))
+                .transactionFee(rs.getBigDecimal("transaction_fee"))
+                .billedAmount(rs.getBigDecimal("billed_amount"))
+                .description(rs.getString("description"))
+                .status(TransactionStatus.valueOf(rs.getString("status")))
+                .statusMessage(rs.getString("status_message"))
+                .commissionWorthy(rs.getBoolean("commission_worthy"))
+                .commission(rs.getBigDecimal("commission"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .build();
+    }
+
+    public record ArchiveCandidate(String id, LocalDateTime createdAt) {
+    }
+
+    private record ArchivedTotals(long totalTransactions, long successfulTransactions, BigDecimal totalAmount,
+                                  BigDecimal totalFees, BigDecimal totalCommission) implements TransactionTotals {
+
+        @Override
+        public Long getTotalTransactions() {
+            return totalTransactions;
+        }
+
+        @Override
+        public Long getSuccessfulTransactions() {
+            return successfulTransactions;
+        }
+
+        @Override
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        @Override
+        public BigDecimal getTotalFees() {
+            return totalFees;
+        }
+
+        @Override
+        public BigDecimal getTotalCommission() {
+            return totalCommission;
+        }
+    }
+}
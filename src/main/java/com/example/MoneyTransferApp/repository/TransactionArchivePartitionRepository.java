@@ -0,0 +1,7 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.entity.TransactionArchivePartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TransactionArchivePartitionRepository extends JpaRepository<TransactionArchivePartition, String> {
+}
@@ -0,0 +1,80 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Reads transactions for export through a forward-only, read-only cursor, handing each row to the
+ * caller as it arrives instead of mapping the result into entities or a list. Rows come out oldest
+ * first. PostgreSQL only honours the fetch size inside a transaction, so callers run this in a
+ * read-only one. Archive months inside the date range are read through a UNION ALL with the hot table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionExportJdbcRepository {
+
+    private static final String COLUMNS = "id, reference, source_account_number, destination_account_number, amount, "
+            + "transaction_fee, billed_amount, description, status, status_message, commission_worthy, commission, "
+            + "created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionPartitions transactionPartitions;
+
+    public void streamTransactions(TransactionStatus status, String accountNumber,
+                                   LocalDateTime startDate, LocalDateTime endDate,
+                                   int fetchSize, RowCallbackHandler rowHandler) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        List<Object> branchParameters = new ArrayList<>();
+        if (status != null) {
+            where.append(" AND status = ?");
+            branchParameters.add(status.name());
+        }
+        if (accountNumber != null) {
+            where.append(" AND (source_account_number = ? OR destination_account_number = ?)");
+            branchParameters.add(accountNumber);
+            branchParameters.add(accountNumber);
+        }
+        if (startDate != null) {
+            where.append(" AND created_at >= ?");
+            branchParameters.add(Timestamp.valueOf(startDate));
+        }
+        if (endDate != null) {
+            where.append(" AND created_at <= ?");
+            branchParameters.add(Timestamp.valueOf(endDate));
+        }
+
+        List<String> tables = new ArrayList<>();
+        tables.add(TransactionPartitions.HOT_TABLE);
+        tables.addAll(transactionPartitions.archiveTablesFor(startDate, endDate));
+        StringJoiner branches = new StringJoiner(" UNION ALL ");
+        List<Object> parameters = new ArrayList<>();
+        for (String table : tables) {
+            branches.add("SELECT " + COLUMNS + " FROM " + table + where);
+            parameters.addAll(branchParameters);
+        }
+        String sql = tables.size() == 1
+                ? branches + " ORDER BY created_at, id"
+                : "SELECT * FROM (" + branches + ") u ORDER BY u.created_at, u.id";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            return statement;
+        }, rowHandler);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtered transaction listings, newest first. Only the filters that are actually supplied end up in
+ * the generated SQL so the planner can pick a matching index.
+ */
+public interface TransactionFilterRepository {
+
+    Page<Transaction> findTransactionsWithFilters(TransactionStatus status, String accountNumber,
+                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                  Pageable pageable);
+
+    Slice<Transaction> findTransactionsWithFiltersAfter(TransactionStatus status, String accountNumber,
+                                                        LocalDateTime startDate, LocalDateTime endDate,
+                                                        LocalDateTime cursorCreatedAt, String cursorId,
+                                                        Pageable pageable);
+
+    Page<TransactionResponse> findTransactionResponsesWithFilters(TransactionStatus status, String accountNumber,
+                                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                                  Pageable pageable);
+
+    Slice<TransactionResponse> findTransactionResponsesWithFiltersAfter(TransactionStatus status, String accountNumber,
+                                                                        LocalDateTime startDate, LocalDateTime endDate,
+                                                                        LocalDateTime cursorCreatedAt, String cursorId,
+                                                                        Pageable pageable);
+
+    long countTransactionsWithFilters(TransactionStatus status, String accountNumber,
+                                      LocalDateTime startDate, LocalDateTime endDate);
+}
@@ -0,0 +1,312 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Filters without an account are built with the Criteria API. The account filter is a native
+ * UNION ALL of a seek on (source_account_number, created_at) and one on
+ * (destination_account_number, created_at); each branch is limited to the rows the page can need,
+ * and the destination branch skips rows the source branch already returned.
+ * <p>
+ * When the date range (or cursor) reaches archived months, the same UNION ALL gets branches for
+ * each of those monthly archive tables and for no others; the Criteria path only covers the hot table.
+ * <p>
+ * The {@code TransactionResponse} variants select the response columns straight into DTOs, so no
+ * entity is hydrated, snapshotted for dirty checking or kept in the persistence context.
+ */
+@RequiredArgsConstructor
+public class TransactionFilterRepositoryImpl implements TransactionFilterRepository {
+
+    private static final String RESPONSE_COLUMNS = "id, reference, source_account_number, destination_account_number, "
+            + "amount, transaction_fee, billed_amount, description, status, status_message, commission_worthy, "
+            + "commission, created_at";
+    private static final String ENTITY_COLUMNS = RESPONSE_COLUMNS + ", updated_at";
+
+    private final EntityManager entityManager;
+    private final TransactionPartitions transactionPartitions;
+
+    @Override
+    public Page<Transaction> findTransactionsWithFilters(TransactionStatus status, String accountNumber,
+                                                         LocalDateTime startDate, LocalDateTime endDate,
+                                                         Pageable pageable) {
+        Filters filters = new Filters(status, accountNumber, startDate, endDate, null, null);
+        List<Transaction> content = find(filters, pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filters));
+    }
+
+    @Override
+    public Slice<Transaction> findTransactionsWithFiltersAfter(TransactionStatus status, String accountNumber,
+                                                               LocalDateTime startDate, LocalDateTime endDate,
+                                                               LocalDateTime cursorCreatedAt, String cursorId,
+                                                               Pageable pageable) {
+        Filters filters = new Filters(status, accountNumber, startDate, endDate, cursorCreatedAt, cursorId);
+        List<Transaction> rows = find(filters, 0, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Page<TransactionResponse> findTransactionResponsesWithFilters(TransactionStatus status, String accountNumber,
+                                                                         LocalDateTime startDate, LocalDateTime endDate,
+                                                                         Pageable pageable) {
+        Filters filters = new Filters(status, accountNumber, startDate, endDate, null, null);
+        List<TransactionResponse> content = findResponses(filters, pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filters));
+    }
+
+    @Override
+    public Slice<TransactionResponse> findTransactionResponsesWithFiltersAfter(TransactionStatus status, String accountNumber,
+                                                                               LocalDateTime startDate, LocalDateTime endDate,
+                                                                               LocalDateTime cursorCreatedAt, String cursorId,
+                                                                               Pageable pageable) {
+        Filters filters = new Filters(status, accountNumber, startDate, endDate, cursorCreatedAt, cursorId);
+        List<TransactionResponse> rows = findResponses(filters, 0, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public long countTransactionsWithFilters(TransactionStatus status, String accountNumber,
+                                             LocalDateTime startDate, LocalDateTime endDate) {
+        return count(new Filters(status, accountNumber, startDate, endDate, null, null));
+    }
+
+    private List<Transaction> find(Filters filters, long offset, int limit) {
+        List<String> tables = tables(filters);
+        if (filters.accountNumber() != null || tables.size() > 1) {
+            return findNative(filters, tables, offset, limit);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> transaction = query.from(Transaction.class);
+        query.where(predicates(cb, transaction, filters).toArray(new Predicate[0]))
+                .orderBy(cb.desc(transaction.get("createdAt")), cb.desc(transaction.get("id")));
+
+        TypedQuery<Transaction> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult(Math.toIntExact(offset));
+        typedQuery.setMaxResults(limit);
+        return typedQuery.getResultList();
+    }
+
+    private List<TransactionResponse> findResponses(Filters filters, long offset, int limit) {
+        List<String> tables = tables(filters);
+        if (filters.accountNumber() != null || tables.size() > 1) {
+            return findResponsesNative(filters, tables, offset, limit);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> transaction = query.from(Transaction.class);
+        query.select(cb.construct(TransactionResponse.class,
+                        transaction.get("id"),
+                        transaction.get("reference"),
+                        transaction.get("sourceAccountNumber"),
+                        transaction.get("destinationAccountNumber"),
+                        transaction.get("amount"),
+                        transaction.get("transactionFee"),
+                        transaction.get("billedAmount"),
+                        transaction.get("description"),
+                        transaction.get("status"),
+                        transaction.get("statusMessage"),
+                        transaction.get("commissionWorthy"),
+                        transaction.get("commission"),
+                        transaction.get("createdAt")))
+                .where(predicates(cb, transaction, filters).toArray(new Predicate[0]))
+                .orderBy(cb.desc(transaction.get("createdAt")), cb.desc(transaction.get("id")));
+
+        TypedQuery<TransactionResponse> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult(Math.toIntExact(offset));
+        typedQuery.setMaxResults(limit);
+        return typedQuery.getResultList();
+    }
+
+    private long count(Filters filters) {
+        List<String> tables = tables(filters);
+        if (filters.accountNumber() != null || tables.size() > 1) {
+            return countNative(filters, tables);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Transaction> transaction = query.from(Transaction.class);
+        query.select(cb.count(transaction))
+                .where(predicates(cb, transaction, filters).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<Transaction> transaction, Filters filters) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filters.status() != null) {
+            predicates.add(cb.equal(transaction.get("status"), filters.status()));
+        }
+        if (filters.startDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(transaction.get("createdAt"), filters.startDate()));
+        }
+        if (filters.endDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(transaction.get("createdAt"), filters.endDate()));
+        }
+        if (filters.cursorCreatedAt() != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(transaction.get("createdAt"), filters.cursorCreatedAt()),
+                    cb.and(cb.equal(transaction.get("createdAt"), filters.cursorCreatedAt()),
+                            cb.lessThan(transaction.get("id"), filters.cursorId()))));
+        }
+        return predicates;
+    }
+
+    // The hot table, plus the archive months the filter's date range and cursor can reach
+    private List<String> tables(Filters filters) {
+        LocalDateTime upperBound = filters.endDate();
+        if (filters.cursorCreatedAt() != null && (upperBound == null || filters.cursorCreatedAt().isBefore(upperBound))) {
+            upperBound = filters.cursorCreatedAt();
+        }
+        List<String> archiveTables = transactionPartitions.archiveTablesFor(filters.startDate(), upperBound);
+        if (archiveTables.isEmpty()) {
+            return List.of(TransactionPartitions.HOT_TABLE);
+        }
+        List<String> tables = new ArrayList<>(archiveTables.size() + 1);
+        tables.add(TransactionPartitions.HOT_TABLE);
+        tables.addAll(archiveTables);
+        return tables;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Transaction> findNative(Filters filters, List<String> tables, long offset, int limit) {
+        Query query = entityManager.createNativeQuery(unionSql(filters, ENTITY_COLUMNS, tables), Transaction.class);
+        bindUnion(query, filters, offset, limit);
+        return query.getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TransactionResponse> findResponsesNative(Filters filters, List<String> tables, long offset, int limit) {
+        Query query = entityManager.createNativeQuery(unionSql(filters, RESPONSE_COLUMNS, tables));
+        bindUnion(query, filters, offset, limit);
+        List<Object[]> rows = query.getResultList();
+        List<TransactionResponse> responses = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            responses.add(toResponse(row));
+        }
+        return responses;
+    }
+
+    private String unionSql(Filters filters, String columns, List<String> tables) {
+        StringJoiner branches = new StringJoiner(") UNION ALL (", "((", "))");
+        for (String table : tables) {
+            for (String where : branchConditions(filters)) {
+                branches.add("SELECT " + columns + " FROM " + table + " WHERE " + where + sqlFilters(filters)
+                        + " ORDER BY created_at DESC, id DESC LIMIT :branchLimit");
+            }
+        }
+        return "SELECT * FROM " + branches + " u ORDER BY u.created_at DESC, u.id DESC LIMIT :limit OFFSET :offset";
+    }
+
+    private List<String> branchConditions(Filters filters) {
+        if (filters.accountNumber() == null) {
+            return List.of("1 = 1");
+        }
+        return List.of("source_account_number = :accountNumber",
+                "destination_account_number = :accountNumber AND source_account_number <> :accountNumber");
+    }
+
+    private void bindUnion(Query query, Filters filters, long offset, int limit) {
+        bindSqlFilters(query, filters);
+        query.setParameter("branchLimit", offset + limit);
+        query.setParameter("limit", limit);
+        query.setParameter("offset", offset);
+    }
+
+    // Row layout follows RESPONSE_COLUMNS
+    private static TransactionResponse toResponse(Object[] row) {
+        return new TransactionResponse(
+                (String) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (BigDecimal) row[4],
+                (BigDecimal) row[5],
+                (BigDecimal) row[6],
+                (String) row[7],
+                row[8] == null ? null : TransactionStatus.valueOf((String) row[8]),
+                (String) row[9],
+                Boolean.TRUE.equals(row[10]),
+                (BigDecimal) row[11],
+                row[12] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) row[12]);
+    }
+
+    private long countNative(Filters filters, List<String> tables) {
+        StringJoiner counts = new StringJoiner(") + (", "SELECT (", ")");
+        for (String table : tables) {
+            for (String where : branchConditions(filters)) {
+                counts.add("SELECT COUNT(*) FROM " + table + " WHERE " + where + sqlFilters(filters));
+            }
+        }
+
+        Query query = entityManager.createNativeQuery(counts.toString());
+        bindSqlFilters(query, filters);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private String sqlFilters(Filters filters) {
+        StringBuilder sql = new StringBuilder();
+        if (filters.status() != null) {
+            sql.append(" AND status = :status");
+        }
+        if (filters.startDate() != null) {
+            sql.append(" AND created_at >= :startDate");
+        }
+        if (filters.endDate() != null) {
+            sql.append(" AND created_at <= :endDate");
+        }
+        if (filters.cursorCreatedAt() != null) {
+            sql.append(" AND (created_at < :cursorCreatedAt OR (created_at = :cursorCreatedAt AND id < :cursorId))");
+        }
+        return sql.toString();
+    }
+
+    private void bindSqlFilters(Query query, Filters filters) {
+        if (filters.accountNumber() != null) {
+            query.setParameter("accountNumber", filters.accountNumber());
+        }
+        if (filters.status() != null) {
+            query.setParameter("status", filters.status().name());
+        }
+        if (filters.startDate() != null) {
+            query.setParameter("startDate", filters.startDate());
+        }
+        if (filters.endDate() != null) {
+            query.setParameter("endDate", filters.endDate());
+        }
+        if (filters.cursorCreatedAt() != null) {
+            query.setParameter("cursorCreatedAt", filters.cursorCreatedAt());
+            query.setParameter("cursorId", filters.cursorId());
+        }
+    }
+
+    private record Filters(TransactionStatus status, String accountNumber,
+                           LocalDateTime startDate, LocalDateTime endDate,
+                           LocalDateTime cursorCreatedAt, String cursorId) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Transaction> transactions) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO transactions (id, reference, source_account_number, destination_account_number, amount, " +
+                        "transaction_fee, billed_amount, description, status, status_message, commission_worthy, " +
+                        "commission, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                transactions,
+                INSERT_BATCH_SIZE,
+                (ps, transaction) -> {
+                    ps.setString(1, transaction.getId());
+                    ps.setString(2, transaction.getReference());
+                    ps.setString(3, transaction.getSourceAccountNumber());
+                    ps.setString(4, transaction.getDestinationAccountNumber());
+                    ps.setBigDecimal(5, transaction.getAmount());
+                    ps.setBigDecimal(6, transaction.getTransactionFee());
+                    ps.setBigDecimal(7, transaction.getBilledAmount());
+                    ps.setString(8, transaction.getDescription());
+                    ps.setString(9, transaction.getStatus().name());
+                    ps.setString(10, transaction.getStatusMessage());
+                    ps.setBoolean(11, transaction.isCommissionWorthy());
+                    ps.setBigDecimal(12, transaction.getCommission());
+                    ps.setTimestamp(13, Timestamp.valueOf(transaction.getCreatedAt()));
+                    ps.setTimestamp(14, Timestamp.valueOf(transaction.getUpdatedAt()));
+                });
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.MoneyTransferApp.repository;
+
+import com.example.MoneyTransferApp.entity.TransactionArchivePartition;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The monthly archive tables finalized transactions are moved into, one per month of created_at,
+ * and which of them a date range touches. Rows stay in the hot transactions table until the
+ * archiver moves them, so readers always include that table as well. Archive tables are created
+ * and registered before any row is moved into them, so a reader never misses a month.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionPartitions {
+
+    public static final String HOT_TABLE = "transactions";
+
+    private static final DateTimeFormatter TABLE_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionArchivePartitionRepository partitionRepository;
+    private final NavigableSet<YearMonth> archivedMonths = new ConcurrentSkipListSet<>();
+
+    // Picks up months archived by another instance
+    @PostConstruct
+    @Scheduled(initialDelayString = "${transfer.archive.partition-refresh-interval-ms:60000}",
+            fixedDelayString = "${transfer.archive.partition-refresh-interval-ms:60000}")
+    public void reload() {
+        for (TransactionArchivePartition partition : partitionRepository.findAll()) {
+            archivedMonths.add(YearMonth.parse(partition.getPeriod()));
+        }
+        log.debug("Known transaction archive months: {}", archivedMonths);
+    }
+
+    /**
+     * Archive tables whose month overlaps [startDate, endDate], oldest first; a null bound is open.
+     */
+    public List<String> archiveTablesFor(LocalDateTime startDate, LocalDateTime endDate) {
+        if (archivedMonths.isEmpty()) {
+            return List.of();
+        }
+        YearMonth from = startDate != null ? YearMonth.from(startDate) : archivedMonths.first();
+        YearMonth to = endDate != null ? YearMonth.from(endDate) : archivedMonths.last();
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+
+        List<String> tables = new ArrayList<>();
+        for (YearMonth month : archivedMonths.subSet(from, true, to, true)) {
+            tables.add(tableName(month));
+        }
+        return tables;
+    }
+
+    public List<String> allArchiveTables() {
+        List<String> tables = new ArrayList<>(archivedMonths.size());
+        for (YearMonth month : archivedMonths.descendingSet()) {
+            tables.add(tableName(month));
+        }
+        return tables;
+    }
+
+    /**
+     * Creates and registers the archive table for a month if it does not exist yet. Runs outside
+     * of any transaction, as some databases commit DDL implicitly.
+     */
+    public void ensurePartition(YearMonth month) {
+        if (archivedMonths.contains(month)) {
+            return;
+        }
+
+        String table = tableName(month);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " ("
+                + "id VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + "reference VARCHAR(255), "
+                + "source_account_number VARCHAR(255), "
+                + "destination_account_number VARCHAR(255), "
+                + "amount NUMERIC(38, 2), "
+                + "transaction_fee NUMERIC(38, 2), "
+                + "billed_amount NUMERIC(38, 2), "
+                + "description VARCHAR(255), "
+                + "status VARCHAR(32), "
+                + "status_message VARCHAR(255), "
+                + "commission_worthy BOOLEAN NOT NULL, "
+                + "commission NUMERIC(38, 2), "
+                + "created_at TIMESTAMP(6), "
+                + "updated_at TIMESTAMP(6))");
+        // Archived rows never change, so only the indexes the readers seek on
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_created ON " + table + " (created_at, id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_source ON " + table
+                + " (source_account_number, created_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_destination ON " + table
+                + " (destination_account_number, created_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_reference ON " + table + " (reference)");
+
+        if (!partitionRepository.existsById(month.toString())) {
+            partitionRepository.save(TransactionArchivePartition.builder()
+                    .period(month.toString())
+                    .tableName(table)
+                    .build());
+        }
+        archivedMonths.add(month);
+        log.info("Created transaction archive table {}", table);
+    }
+
+    public static String tableName(YearMonth month) {
+        return "transactions_archive_" + month.format(TABLE_SUFFIX);
+    }
+}
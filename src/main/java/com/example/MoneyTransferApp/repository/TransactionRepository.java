@@ -2,36 +2,37 @@ package com.example.MoneyTransferApp.repository;
 
 import com.example.MoneyTransferApp.entity.Transaction;
 import com.example.MoneyTransferApp.enums.TransactionStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface TransactionRepository extends JpaRepository<Transaction, String> {
+public interface TransactionRepository extends JpaRepository<Transaction, String>, TransactionFilterRepository {
 
     List<Transaction> findByStatus(TransactionStatus status);
 
-    List<Transaction> findBySourceAccountNumberOrDestinationAccountNumber(
-            String sourceAccountNumber, String destinationAccountNumber);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<Transaction> findByReference(String reference);
 
-    List<Transaction> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.id IN :ids AND t.status = :status")
+    List<Transaction> findByIdInAndStatusForUpdate(@Param("ids") List<String> ids,
+                                                   @Param("status") TransactionStatus status);
 
-    @Query("SELECT t FROM Transaction t WHERE " +
-            "(:status IS NULL OR t.status = :status) AND " +
-            "(:accountNumber IS NULL OR t.sourceAccountNumber = :accountNumber OR t.destinationAccountNumber = :accountNumber) AND " +
-            "(:startDate IS NULL OR t.createdAt >= :startDate) AND " +
-            "(:endDate IS NULL OR t.createdAt <= :endDate)")
-    Page<Transaction> findTransactionsWithFilters(
-            @Param("status") TransactionStatus status,
-            @Param("accountNumber") String accountNumber,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+    @Query("SELECT t.id FROM Transaction t WHERE t.status = :status AND t.createdAt < :createdBefore ORDER BY t.createdAt")
+    List<String> findIdsByStatusCreatedBefore(@Param("status") TransactionStatus status,
+                                              @Param("createdBefore") LocalDateTime createdBefore);
 
     List<Transaction> findByStatusAndCommissionWorthy(TransactionStatus status, boolean commissionWorthy);
 
@@ -39,6 +40,38 @@ public interface TransactionRepository extends JpaRepository<Transaction, String
             "t.status = 'SUCCESSFUL' AND t.commissionWorthy = false")
     List<Transaction> findSuccessfulTransactionsWithoutCommission();
 
-    @Query("SELECT t FROM Transaction t WHERE DATE(t.createdAt) = :date")
-    List<Transaction> findTransactionsByDate(LocalDate date);
+    @Query("SELECT COUNT(t) AS totalTransactions, " +
+            "COALESCE(SUM(CASE WHEN t.status = :successful THEN 1L ELSE 0L END), 0L) AS successfulTransactions, " +
+            "COALESCE(SUM(CASE WHEN t.status = :successful THEN t.amount ELSE 0 END), 0) AS totalAmount, " +
+            "COALESCE(SUM(CASE WHEN t.status = :successful THEN t.transactionFee ELSE 0 END), 0) AS totalFees, " +
+            "COALESCE(SUM(CASE WHEN t.commissionWorthy = true THEN t.commission ELSE 0 END), 0) AS totalCommission " +
+            "FROM Transaction t WHERE t.createdAt >= :startDate AND t.createdAt < :endDate")
+    TransactionTotals summarizeCreatedBetween(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("successful") TransactionStatus successful);
+
+    @Query("SELECT t.id FROM Transaction t WHERE " +
+            "t.status = 'SUCCESSFUL' AND t.commissionWorthy = false AND t.id > :afterId ORDER BY t.id")
+    List<String> findCommissionCandidateIds(@Param("afterId") String afterId, Pageable pageable);
+
+    // Locks the chunk's rows so an overlapping run waits, then sees them already commission worthy
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Transaction t WHERE t.id IN :ids AND t.commissionWorthy = false")
+    List<String> claimCommissionCandidates(@Param("ids") List<String> ids);
+
+    @Modifying
+    @Query("UPDATE Transaction t SET t.commissionWorthy = true, " +
+            "t.commission = ROUND(t.transactionFee * :percentage, 2), t.updatedAt = :updatedAt " +
+            "WHERE t.id IN :ids AND t.commissionWorthy = false")
+    int applyCommission(@Param("ids") List<String> ids,
+                        @Param("percentage") BigDecimal percentage,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT COALESCE(SUM(t.commission), 0) FROM Transaction t WHERE t.id IN :ids")
+    BigDecimal sumCommission(@Param("ids") List<String> ids);
+
+    @Query("SELECT COALESCE(SUM(t.commission), 0) FROM Transaction t " +
+            "WHERE t.id IN :ids AND t.createdAt >= :createdFrom")
+    BigDecimal sumCommissionCreatedSince(@Param("ids") List<String> ids, @Param("createdFrom") LocalDateTime createdFrom);
 }
@@ -0,0 +1,19 @@
+package com.example.MoneyTransferApp.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregated totals over a range of transactions, computed by the database.
+ */
+public interface TransactionTotals {
+
+    Long getTotalTransactions();
+
+    Long getSuccessfulTransactions();
+
+    BigDecimal getTotalAmount();
+
+    BigDecimal getTotalFees();
+
+    BigDecimal getTotalCommission();
+}
@@ -21,10 +21,27 @@ public class TransactionScheduler {
         transactionService.updateCommissionWorthy();
     }
 
+    // Early pass so yesterday is served from the cache from the start of the day
+    @Scheduled(cron = "${transfer.summary.precompute-cron:0 5 0 * * ?}")
+    public void precomputeDailySummary() {
+        log.info("Running scheduled job to precompute yesterday's transaction summary");
+        transactionService.getTransactionSummary(LocalDate.now().minusDays(1));
+    }
+
+    // Recomputed after the commission job so the cached summary includes the day's commissions
     @Scheduled(cron = "0 30 2 * * ?")
     public void generateDailySummary() {
         log.info("Running scheduled job to generate daily transaction summary");
         LocalDate yesterday = LocalDate.now().minusDays(1);
         transactionService.generateTransactionSummary(yesterday);
+        // The day is final once its summary is, so it can be frozen into its columnar file
+        transactionService.writeColumnarDay(yesterday);
+    }
+
+    // After the commission job, so the previous days' successful transactions are final
+    @Scheduled(cron = "${transfer.archive.cron:0 0 3 * * ?}")
+    public void archiveTransactions() {
+        log.info("Running scheduled job to archive finalized transactions");
+        transactionService.archiveTransactions();
     }
 }
@@ -0,0 +1,9 @@
+package com.example.MoneyTransferApp.service;
+
+import com.example.MoneyTransferApp.dto.CursorPagedResponse;
+import com.example.MoneyTransferApp.dto.LedgerEntryResponse;
+
+public interface AccountStatementService {
+
+    CursorPagedResponse<LedgerEntryResponse> getStatement(String accountNumber, String cursor, int size);
+}
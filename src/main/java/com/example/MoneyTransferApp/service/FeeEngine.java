@@ -0,0 +1,12 @@
+package com.example.MoneyTransferApp.service;
+
+import com.example.MoneyTransferApp.dto.Money;
+
+public interface FeeEngine {
+
+    /**
+     * Returns the fee charged to the source account for transferring {@code amount}. Called on every
+     * transfer, so implementations must not block.
+     */
+    Money transactionFee(String sourceAccountNumber, Money amount);
+}
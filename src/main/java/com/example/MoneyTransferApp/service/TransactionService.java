@@ -1,12 +1,17 @@
 package com.example.MoneyTransferApp.service;
 
+import com.example.MoneyTransferApp.dto.BatchTransferResponse;
+import com.example.MoneyTransferApp.dto.CursorPagedResponse;
 import com.example.MoneyTransferApp.dto.TransactionFilterRequest;
 import com.example.MoneyTransferApp.dto.TransactionResponse;
 import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
 import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.enums.ExportFormat;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -14,10 +19,27 @@ public interface TransactionService {
 
     TransactionResponse processTransfer(TransferRequest request);
 
+    TransactionResponse processTransfer(TransferRequest request, String idempotencyKey);
+
+    TransactionResponse submitTransfer(TransferRequest request, String idempotencyKey);
+
+    TransactionResponse getTransaction(String reference);
+
+    BatchTransferResponse processTransfers(List<TransferRequest> requests);
+
     Page<TransactionResponse> getTransactionsWithFilters(TransactionFilterRequest filterRequest);
 
+    CursorPagedResponse<TransactionResponse> getTransactionsAfterCursor(TransactionFilterRequest filterRequest);
+
+    long exportTransactions(TransactionFilterRequest filterRequest, ExportFormat format, OutputStream outputStream)
+            throws IOException;
+
     void updateCommissionWorthy();
 
+    void archiveTransactions();
+
+    void writeColumnarDay(LocalDate date);
+
     TransactionSummaryResponse getTransactionSummary(LocalDate date);
 
     TransactionSummaryResponse generateTransactionSummary(LocalDate date);
@@ -0,0 +1,22 @@
+package com.example.MoneyTransferApp.service;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransferPosting;
+
+import java.util.List;
+
+public interface TransferEngine {
+
+    /**
+     * Moves the money inside the caller's transaction, throwing if it cannot, and returns the
+     * applied posting with the balances it left behind.
+     */
+    TransferPosting applyTransfer(String sourceAccountNumber, String destinationAccountNumber,
+                                  Money amount, Money billedAmount);
+
+    /**
+     * Applies a batch of postings inside the caller's transaction, recording the outcome on each
+     * posting instead of throwing, so one rejected posting does not fail the rest of the batch.
+     */
+    void applyTransfers(List<TransferPosting> postings);
+}
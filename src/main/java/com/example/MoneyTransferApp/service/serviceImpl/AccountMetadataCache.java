@@ -0,0 +1,183 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.AccountMetadata;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of account metadata keyed by account number, so existence checks and fee
+ * lookups do not need a database round trip, let alone a row lock. Misses are cached too, for a
+ * shorter time, so repeated lookups of an unknown number query the database once per negative TTL.
+ * Account inserts, updates and deletes made through JPA reach {@link #onAccountSaved} and
+ * {@link #onAccountRemoved} via {@code AccountCacheListener}.
+ * <p>
+ * With {@code transfer.account-cache.single-writer=true} a Bloom filter of every known account
+ * number sits in front of the cache, and numbers it has never seen are rejected without touching the
+ * cache or the database. That is only correct while this instance is the only writer of the accounts
+ * table: an account inserted by another instance or with plain SQL is rejected until the filter is
+ * rebuilt on {@code transfer.account-cache.bloom-rebuild-interval-ms} or by {@link #reloadKnownAccounts}.
+ * <p>
+ * Misses are loaded on the calling thread rather than inside the cache's compute lock, so a
+ * virtual thread waiting on the database never pins its carrier. A load that overlaps an
+ * invalidation is returned but not cached.
+ */
+@Component
+@Slf4j
+public class AccountMetadataCache {
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final AccountRepository accountRepository;
+    private final long expectedAccounts;
+    private final boolean singleWriter;
+    private final Cache<String, Optional<AccountMetadata>> accounts;
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile AccountNumberBloomFilter knownAccounts;
+    private volatile AccountNumberBloomFilter rebuildingAccounts;
+
+    public AccountMetadataCache(AccountRepository accountRepository,
+                                @Value("${transfer.account-cache.size:100000}") long cacheSize,
+                                @Value("${transfer.account-cache.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${transfer.account-cache.negative-ttl-seconds:30}") long negativeTtlSeconds,
+                                @Value("${transfer.account-cache.expected-accounts:1000000}") long expectedAccounts,
+                                @Value("${transfer.account-cache.single-writer:false}") boolean singleWriter) {
+        this.accountRepository = accountRepository;
+        this.expectedAccounts = expectedAccounts;
+        this.singleWriter = singleWriter;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new HitOrMissExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+                .build();
+    }
+
+    @PostConstruct
+    @Scheduled(initialDelayString = "${transfer.account-cache.bloom-rebuild-interval-ms:600000}",
+            fixedDelayString = "${transfer.account-cache.bloom-rebuild-interval-ms:600000}")
+    public void reloadKnownAccounts() {
+        if (!singleWriter) {
+            invalidations.incrementAndGet();
+            accounts.invalidateAll();
+            return;
+        }
+
+        // Accounts committed while the query runs are added to both filters by onAccountSaved
+        AccountNumberBloomFilter rebuilt = new AccountNumberBloomFilter(
+                Math.max(expectedAccounts, accountRepository.count() * 2), BLOOM_FALSE_POSITIVE_RATE);
+        rebuildingAccounts = rebuilt;
+        List<String> accountNumbers = accountRepository.findAllAccountNumbers();
+        accountNumbers.forEach(rebuilt::add);
+        knownAccounts = rebuilt;
+        rebuildingAccounts = null;
+        invalidations.incrementAndGet();
+        accounts.invalidateAll();
+        log.info("Loaded {} account numbers into the account cache filter", accountNumbers.size());
+    }
+
+    public Optional<AccountMetadata> find(String accountNumber) {
+        if (accountNumber == null) {
+            return Optional.empty();
+        }
+        // A filter miss is only final when no one else can insert accounts behind its back
+        if (singleWriter && !knownAccounts.mightContain(accountNumber)) {
+            return Optional.empty();
+        }
+
+        Optional<AccountMetadata> cached = accounts.getIfPresent(accountNumber);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        Optional<AccountMetadata> loaded = accountRepository.findMetadataByAccountNumber(accountNumber);
+        accounts.put(accountNumber, loaded);
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            accounts.asMap().remove(accountNumber, loaded);
+        }
+        return loaded;
+    }
+
+    public AccountMetadata require(String accountNumber, String notFoundMessage) {
+        return find(accountNumber).orElseThrow(() -> new AccountNotFoundException(notFoundMessage));
+    }
+
+    /**
+     * Called for every account JPA inserts or updates. Balance-only updates leave the cached entry
+     * alone; anything else is evicted once the surrounding transaction commits.
+     */
+    public void onAccountSaved(AccountMetadata metadata) {
+        Optional<AccountMetadata> cached = accounts.getIfPresent(metadata.accountNumber());
+        if (cached != null && cached.isPresent() && cached.get().equals(metadata)) {
+            return;
+        }
+
+        afterCommit(() -> {
+            AccountNumberBloomFilter known = knownAccounts;
+            if (known != null) {
+                known.add(metadata.accountNumber());
+            }
+            AccountNumberBloomFilter rebuilding = rebuildingAccounts;
+            if (rebuilding != null) {
+                rebuilding.add(metadata.accountNumber());
+            }
+            invalidate(metadata.accountNumber());
+        });
+    }
+
+    public void onAccountRemoved(String accountNumber) {
+        afterCommit(() -> invalidate(accountNumber));
+    }
+
+    private void invalidate(String accountNumber) {
+        invalidations.incrementAndGet();
+        accounts.invalidate(accountNumber);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record HitOrMissExpiry(Duration hitTtl, Duration missTtl) implements Expiry<String, Optional<AccountMetadata>> {
+
+        @Override
+        public long expireAfterCreate(String accountNumber, Optional<AccountMetadata> metadata, long currentTime) {
+            return (metadata.isPresent() ? hitTtl : missTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String accountNumber, Optional<AccountMetadata> metadata,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(accountNumber, metadata, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String accountNumber, Optional<AccountMetadata> metadata,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
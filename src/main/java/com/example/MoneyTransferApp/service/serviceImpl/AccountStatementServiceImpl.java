@@ -0,0 +1,57 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.CursorPagedResponse;
+import com.example.MoneyTransferApp.dto.LedgerEntryResponse;
+import com.example.MoneyTransferApp.dto.StatementCursor;
+import com.example.MoneyTransferApp.exception.InvalidTransactionException;
+import com.example.MoneyTransferApp.repository.LedgerEntryJdbcRepository;
+import com.example.MoneyTransferApp.service.AccountStatementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Statements are read from the ledger entries written with every transfer, newest first, with the
+ * running balance already on each entry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountStatementServiceImpl implements AccountStatementService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final LedgerEntryJdbcRepository ledgerEntryJdbcRepository;
+    private final AccountMetadataCache accountMetadataCache;
+
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<LedgerEntryResponse> getStatement(String accountNumber, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidTransactionException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        accountMetadataCache.require(accountNumber, "Account not found");
+
+        StatementCursor position = cursor == null || cursor.isEmpty() ? null : StatementCursor.decode(cursor);
+        List<LedgerEntryResponse> entries = ledgerEntryJdbcRepository.findStatementPage(accountNumber,
+                position != null ? position.postedAt() : null,
+                position != null ? position.id() : null,
+                size + 1);
+
+        boolean hasNext = entries.size() > size;
+        List<LedgerEntryResponse> content = hasNext ? entries.subList(0, size) : entries;
+        CursorPagedResponse<LedgerEntryResponse> response = new CursorPagedResponse<>();
+        response.setContent(content);
+        response.setSize(size);
+        response.setNumberOfElements(content.size());
+        response.setHasNext(hasNext);
+        if (hasNext) {
+            LedgerEntryResponse last = content.get(content.size() - 1);
+            response.setNextCursor(new StatementCursor(last.getPostedAt(), last.getId()).encode());
+        }
+        log.debug("Statement page for account {}: {} entries", accountNumber, content.size());
+        return response;
+    }
+}
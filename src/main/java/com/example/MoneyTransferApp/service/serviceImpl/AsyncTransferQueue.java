@@ -0,0 +1,165 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.exception.TransferQueueFullException;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepts transfers for background processing. A submitted transfer is stored as PENDING and its
+ * id queued; worker threads drain the queue in micro-batches and apply each batch through
+ * {@link TransferExecutor#completePending}, so callers never wait on account locks. The queue holds
+ * at most {@code transfer.async.queue-capacity} transfers; beyond that submissions are refused with
+ * {@link TransferQueueFullException} before anything is written. Transfers still PENDING from an
+ * earlier run are queued again once the application is ready.
+ */
+@Component
+@Slf4j
+public class AsyncTransferQueue {
+
+    private final TransferExecutor transferExecutor;
+    private final TransactionRepository transactionRepository;
+    private final TransferRetryExecutor transferRetryExecutor;
+    private final int batchSize;
+    private final Semaphore capacity;
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService workers;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    public AsyncTransferQueue(TransferExecutor transferExecutor,
+                              TransactionRepository transactionRepository,
+                              TransferRetryExecutor transferRetryExecutor,
+                              @Value("${transfer.async.queue-capacity:10000}") int queueCapacity,
+                              @Value("${transfer.async.workers:4}") int workerCount,
+                              @Value("${transfer.async.batch-size:100}") int batchSize) {
+        this.transferExecutor = transferExecutor;
+        this.transactionRepository = transactionRepository;
+        this.transferRetryExecutor = transferRetryExecutor;
+        this.batchSize = batchSize;
+        this.capacity = new Semaphore(queueCapacity);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(workerCount, 1), runnable -> {
+            Thread thread = new Thread(runnable, "transfer-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+        log.info("Async transfer queue started with capacity {}, {} workers and batches of up to {}",
+                queueCapacity, workerCount, batchSize);
+    }
+
+    public TransactionResponse submit(TransferRequest request, String idempotencyKey, String requestFingerprint) {
+        if (!capacity.tryAcquire()) {
+            throw new TransferQueueFullException("Transfer queue is full, retry later");
+        }
+
+        TransactionResponse response;
+        try {
+            response = transferExecutor.submitPending(request, idempotencyKey, requestFingerprint);
+        } catch (RuntimeException ex) {
+            capacity.release();
+            throw ex;
+        }
+        queue.add(response.getId());
+        return response;
+    }
+
+    public int getQueuedTransfers() {
+        return queue.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeuePending() {
+        List<String> pendingIds = transactionRepository.findIdsByStatusCreatedBefore(TransactionStatus.PENDING, startedAt);
+        if (pendingIds.isEmpty()) {
+            return;
+        }
+
+        log.info("Re-queueing {} transfers left pending by a previous run", pendingIds.size());
+        Thread requeue = new Thread(() -> {
+            try {
+                for (String pendingId : pendingIds) {
+                    capacity.acquire();
+                    queue.add(pendingId);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, "transfer-requeue");
+        requeue.setDaemon(true);
+        requeue.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Anything still queued stays PENDING and is picked up again on the next start
+        workers.shutdownNow();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            capacity.release(batch.size());
+
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    private void process(List<String> batch) {
+        try {
+            transferExecutor.completePending(batch);
+            return;
+        } catch (RuntimeException ex) {
+            log.warn("Batch of {} queued transfers failed, retrying one by one: {}", batch.size(), ex.getMessage());
+        }
+
+        for (String transactionId : batch) {
+            try {
+                transferRetryExecutor.execute("Queued transfer",
+                        () -> transferExecutor.completePending(List.of(transactionId)));
+            } catch (RuntimeException ex) {
+                log.error("Queued transfer {} failed", transactionId, ex);
+                markFailed(transactionId);
+            }
+        }
+    }
+
+    private void markFailed(String transactionId) {
+        try {
+            transferExecutor.failPending(transactionId, "Transfer could not be processed");
+        } catch (RuntimeException ex) {
+            // Left PENDING; the next start queues it again
+            log.error("Could not mark queued transfer {} as failed", transactionId, ex);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.entity.TransactionSummary;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read side of a closed day written by {@link ColumnarDayWriter}. The file is memory-mapped once and
+ * scanned column by column straight from the page cache; summaries touch only the status, flag and
+ * amount columns, and account lookups skip a whole day when the account lies outside the min/max
+ * kept in the header for the account columns. Instances are immutable and safe to share.
+ */
+public final class ColumnarDayFile {
+
+    static final int MAGIC = 0x4D54434C;
+    static final int VERSION = 1;
+
+    static final int CREATED_AT = 0;
+    static final int SOURCE = 1;
+    static final int DESTINATION = 2;
+    static final int AMOUNT = 3;
+    static final int FEE = 4;
+    static final int BILLED = 5;
+    static final int COMMISSION = 6;
+    static final int NUMERIC_COLUMNS = 7;
+
+    static final byte COMMISSION_WORTHY = 1;
+    // Stands in for an account number that is not ten digits, read back as null
+    static final long NO_ACCOUNT = -1;
+
+    private static final int ACCOUNT_DIGITS = 10;
+
+    private final ByteBuffer buffer;
+    private final LocalDate day;
+    private final int rows;
+    private final TransactionStatus[] statuses;
+    private final int[] widths = new int[NUMERIC_COLUMNS];
+    private final long[] minimums = new long[NUMERIC_COLUMNS];
+    private final long[] maximums = new long[NUMERIC_COLUMNS];
+    private final int[] offsets = new int[NUMERIC_COLUMNS];
+    private final int statusOffset;
+    private final int flagsOffset;
+    private final int idEndsOffset;
+    private final int idBytesOffset;
+
+    private ColumnarDayFile(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalStateException("Not a columnar transaction file of version " + VERSION);
+        }
+        this.day = LocalDate.ofEpochDay(buffer.getLong());
+        this.rows = buffer.getInt();
+
+        this.statuses = new TransactionStatus[buffer.get() & 0xFF];
+        for (int code = 0; code < statuses.length; code++) {
+            byte[] name = new byte[buffer.get() & 0xFF];
+            buffer.get(name);
+            statuses[code] = TransactionStatus.valueOf(new String(name, StandardCharsets.US_ASCII));
+        }
+
+        for (int column = 0; column < NUMERIC_COLUMNS; column++) {
+            widths[column] = buffer.get();
+            minimums[column] = buffer.getLong();
+            maximums[column] = buffer.getLong();
+            offsets[column] = buffer.getInt();
+        }
+        this.statusOffset = buffer.getInt();
+        this.flagsOffset = buffer.getInt();
+        this.idEndsOffset = buffer.getInt();
+        this.idBytesOffset = buffer.getInt();
+    }
+
+    public static ColumnarDayFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ColumnarDayFile(buffer.order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * The same totals {@code DailySummaryCache} computes from the database for this day.
+     */
+    public TransactionSummary summarize() {
+        int successful = codeOf(TransactionStatus.SUCCESSFUL);
+        long successfulTransactions = 0;
+        long totalAmount = 0;
+        long totalFees = 0;
+        long totalCommission = 0;
+        for (int row = 0; row < rows; row++) {
+            if ((buffer.get(statusOffset + row) & 0xFF) == successful) {
+                successfulTransactions++;
+                totalAmount += value(AMOUNT, row);
+                totalFees += value(FEE, row);
+            }
+            if ((buffer.get(flagsOffset + row) & COMMISSION_WORTHY) != 0) {
+                totalCommission += value(COMMISSION, row);
+            }
+        }
+
+        return TransactionSummary.builder()
+                .date(day)
+                .totalTransactions(rows)
+                .successfulTransactions(successfulTransactions)
+                .failedTransactions(rows - successfulTransactions)
+                .totalAmount(cents(totalAmount))
+                .totalFees(cents(totalFees))
+                .totalCommission(cents(totalCommission))
+                .build();
+    }
+
+    /**
+     * Transactions of this day sent from or to the account, oldest first. Reference, description and
+     * status message are not kept in the file, so they are left empty.
+     */
+    public List<TransactionResponse> findByAccount(String accountNumber) {
+        long packed;
+        try {
+            packed = packAccount(accountNumber);
+        } catch (IllegalArgumentException ex) {
+            return List.of();
+        }
+        if (!inRange(SOURCE, packed) && !inRange(DESTINATION, packed)) {
+            return List.of();
+        }
+
+        List<TransactionResponse> matches = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            if (value(SOURCE, row) == packed || value(DESTINATION, row) == packed) {
+                matches.add(toResponse(row));
+            }
+        }
+        return matches;
+    }
+
+    static long packAccount(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != ACCOUNT_DIGITS) {
+            throw new IllegalArgumentException("Account number must be exactly 10 digits: " + accountNumber);
+        }
+        long packed = 0;
+        for (int i = 0; i < ACCOUNT_DIGITS; i++) {
+            char digit = accountNumber.charAt(i);
+            if (digit < '0' || digit > '9') {
+                throw new IllegalArgumentException("Account number must be exactly 10 digits: " + accountNumber);
+            }
+            packed = packed * 10 + (digit - '0');
+        }
+        return packed;
+    }
+
+    static String unpackAccount(long packed) {
+        if (packed == NO_ACCOUNT) {
+            return null;
+        }
+        String digits = Long.toString(packed);
+        return "0".repeat(ACCOUNT_DIGITS - digits.length()) + digits;
+    }
+
+    private TransactionResponse toResponse(int row) {
+        int idStart = row == 0 ? 0 : buffer.getInt(idEndsOffset + (row - 1) * 4);
+        int idEnd = buffer.getInt(idEndsOffset + row * 4);
+        byte[] id = new byte[idEnd - idStart];
+        buffer.get(idBytesOffset + idStart, id);
+
+        return TransactionResponse.builder()
+                .id(new String(id, StandardCharsets.UTF_8))
+                .sourceAccountNumber(unpackAccount(value(SOURCE, row)))
+                .destinationAccountNumber(unpackAccount(value(DESTINATION, row)))
+                .amount(cents(value(AMOUNT, row)))
+                .transactionFee(cents(value(FEE, row)))
+                .billedAmount(cents(value(BILLED, row)))
+                .status(statuses[buffer.get(statusOffset + row) & 0xFF])
+                .commissionWorthy((buffer.get(flagsOffset + row) & COMMISSION_WORTHY) != 0)
+                .commission(cents(value(COMMISSION, row)))
+                .createdAt(day.atStartOfDay().plusNanos(value(CREATED_AT, row) * 1_000_000L))
+                .build();
+    }
+
+    private long value(int column, int row) {
+        int offset = offsets[column];
+        long minimum = minimums[column];
+        return switch (widths[column]) {
+            case 0 -> minimum;
+            case 1 -> minimum + (buffer.get(offset + row) & 0xFFL);
+            case 2 -> minimum + (buffer.getShort(offset + row * 2) & 0xFFFFL);
+            case 4 -> minimum + (buffer.getInt(offset + row * 4) & 0xFFFFFFFFL);
+            default -> minimum + buffer.getLong(offset + row * 8);
+        };
+    }
+
+    private boolean inRange(int column, long value) {
+        return rows > 0 && value >= minimums[column] && value <= maximums[column];
+    }
+
+    private int codeOf(TransactionStatus status) {
+        for (int code = 0; code < statuses.length; code++) {
+            if (statuses[code] == status) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    private static BigDecimal cents(long minorUnits) {
+        return Money.ofMinor(minorUnits).toBigDecimal();
+    }
+}
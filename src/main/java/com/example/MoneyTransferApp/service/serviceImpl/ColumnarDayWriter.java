@@ -0,0 +1,204 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.example.MoneyTransferApp.service.serviceImpl.ColumnarDayFile.*;
+
+/**
+ * Encodes one closed day of transactions column by column for {@link ColumnarDayFile}. Amounts are
+ * whole cents, account numbers their ten digits as a long, times milliseconds since midnight and
+ * statuses a one byte code into a dictionary in the header. Each numeric column is stored as its
+ * minimum once plus every value's offset from it, in the narrowest of 0, 1, 2, 4 or 8 bytes that holds
+ * the column's range. Ids go to a string heap at the end of the file. An account number that is not
+ * ten digits, as on a batch item rejected at validation, is stored as {@code NO_ACCOUNT}.
+ */
+public final class ColumnarDayWriter {
+
+    private static final int INITIAL_ROWS = 1024;
+
+    private final LocalDate day;
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+    private final ByteArrayOutputStream idBytes = new ByteArrayOutputStream();
+    private final long[][] numeric = new long[NUMERIC_COLUMNS][INITIAL_ROWS];
+    private byte[] statuses = new byte[INITIAL_ROWS];
+    private byte[] flags = new byte[INITIAL_ROWS];
+    private int[] idEnds = new int[INITIAL_ROWS];
+    private int rows;
+
+    public ColumnarDayWriter(LocalDate day) {
+        this.day = day;
+    }
+
+    public void add(String id, String sourceAccountNumber, String destinationAccountNumber,
+                    long amountCents, long feeCents, long billedCents, String status,
+                    boolean commissionWorthy, long commissionCents, LocalDateTime createdAt) {
+        if (!createdAt.toLocalDate().equals(day)) {
+            throw new IllegalArgumentException("Transaction " + id + " was not created on " + day);
+        }
+        if (rows == statuses.length) {
+            grow();
+        }
+
+        numeric[CREATED_AT][rows] = createdAt.toLocalTime().toNanoOfDay() / 1_000_000L;
+        numeric[SOURCE][rows] = packStoredAccount(sourceAccountNumber);
+        numeric[DESTINATION][rows] = packStoredAccount(destinationAccountNumber);
+        numeric[AMOUNT][rows] = amountCents;
+        numeric[FEE][rows] = feeCents;
+        numeric[BILLED][rows] = billedCents;
+        numeric[COMMISSION][rows] = commissionCents;
+        statuses[rows] = statusCode(status);
+        flags[rows] = commissionWorthy ? COMMISSION_WORTHY : 0;
+        idBytes.writeBytes(id.getBytes(StandardCharsets.UTF_8));
+        idEnds[rows] = idBytes.size();
+        rows++;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Writes the file beside the target and moves it into place, so readers never map half a file.
+     */
+    public void write(Path target) throws IOException {
+        long[] minimums = new long[NUMERIC_COLUMNS];
+        long[] maximums = new long[NUMERIC_COLUMNS];
+        int[] widths = new int[NUMERIC_COLUMNS];
+        for (int column = 0; column < NUMERIC_COLUMNS; column++) {
+            long minimum = rows == 0 ? 0 : Long.MAX_VALUE;
+            long maximum = rows == 0 ? 0 : Long.MIN_VALUE;
+            for (int row = 0; row < rows; row++) {
+                minimum = Math.min(minimum, numeric[column][row]);
+                maximum = Math.max(maximum, numeric[column][row]);
+            }
+            minimums[column] = minimum;
+            maximums[column] = maximum;
+            widths[column] = widthFor(maximum - minimum);
+        }
+
+        byte[][] names = dictionary.keySet().stream()
+                .map(name -> name.getBytes(StandardCharsets.US_ASCII))
+                .toArray(byte[][]::new);
+        long headerSize = 4 + 4 + 8 + 4 + 1 + NUMERIC_COLUMNS * (1 + 8 + 8 + 4) + 4 * 4;
+        for (byte[] name : names) {
+            headerSize += 1 + name.length;
+        }
+
+        int[] offsets = new int[NUMERIC_COLUMNS];
+        long size = headerSize;
+        for (int column = 0; column < NUMERIC_COLUMNS; column++) {
+            offsets[column] = (int) size;
+            size += (long) widths[column] * rows;
+        }
+        int statusOffset = (int) size;
+        int flagsOffset = statusOffset + rows;
+        int idEndsOffset = flagsOffset + rows;
+        int idBytesOffset = idEndsOffset + rows * 4;
+        size = (long) idBytesOffset + idBytes.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Columnar file for " + day + " would exceed 2 GB");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(day.toEpochDay()).putInt(rows);
+        buffer.put((byte) names.length);
+        for (byte[] name : names) {
+            buffer.put((byte) name.length).put(name);
+        }
+        for (int column = 0; column < NUMERIC_COLUMNS; column++) {
+            buffer.put((byte) widths[column]).putLong(minimums[column]).putLong(maximums[column]).putInt(offsets[column]);
+        }
+        buffer.putInt(statusOffset).putInt(flagsOffset).putInt(idEndsOffset).putInt(idBytesOffset);
+
+        for (int column = 0; column < NUMERIC_COLUMNS; column++) {
+            long minimum = minimums[column];
+            for (int row = 0; row < rows; row++) {
+                long delta = numeric[column][row] - minimum;
+                switch (widths[column]) {
+                    case 0 -> {
+                    }
+                    case 1 -> buffer.put((byte) delta);
+                    case 2 -> buffer.putShort((short) delta);
+                    case 4 -> buffer.putInt((int) delta);
+                    default -> buffer.putLong(delta);
+                }
+            }
+        }
+        buffer.put(statuses, 0, rows);
+        buffer.put(flags, 0, rows);
+        for (int row = 0; row < rows; row++) {
+            buffer.putInt(idEnds[row]);
+        }
+        buffer.put(idBytes.toByteArray());
+        buffer.flip();
+
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private byte statusCode(String status) {
+        Integer code = dictionary.get(status);
+        if (code == null) {
+            if (dictionary.size() == 255) {
+                throw new IllegalStateException("Too many distinct statuses for a one byte dictionary");
+            }
+            code = dictionary.size();
+            dictionary.put(status, code);
+        }
+        return code.byteValue();
+    }
+
+    private void grow() {
+        int capacity = statuses.length * 2;
+        for (int column = 0; column < NUMERIC_COLUMNS; column++) {
+            numeric[column] = Arrays.copyOf(numeric[column], capacity);
+        }
+        statuses = Arrays.copyOf(statuses, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        idEnds = Arrays.copyOf(idEnds, capacity);
+    }
+
+    // Batch items rejected at validation are stored with whatever account number they were sent
+    private static long packStoredAccount(String accountNumber) {
+        try {
+            return packAccount(accountNumber);
+        } catch (IllegalArgumentException ex) {
+            return NO_ACCOUNT;
+        }
+    }
+
+    // Unsigned, since the range of a column spanning negative and positive values can exceed Long.MAX_VALUE
+    private static int widthFor(long range) {
+        if (range == 0) {
+            return 0;
+        }
+        if (Long.compareUnsigned(range, 0xFFL) <= 0) {
+            return 1;
+        }
+        if (Long.compareUnsigned(range, 0xFFFFL) <= 0) {
+            return 2;
+        }
+        return Long.compareUnsigned(range, 0xFFFFFFFFL) <= 0 ? 4 : 8;
+    }
+}
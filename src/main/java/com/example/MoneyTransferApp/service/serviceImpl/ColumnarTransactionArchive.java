@@ -0,0 +1,134 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.entity.TransactionSummary;
+import com.example.MoneyTransferApp.repository.TransactionExportJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One columnar file per finished day under {@code transfer.columnar.directory}, for analytics that
+ * should not scan the transactions table. A day is written once its summary has been generated and
+ * read back through memory-mapped {@link ColumnarDayFile}s without touching the database; days that
+ * were never written are simply missing from the results.
+ */
+@Component
+@Slf4j
+public class ColumnarTransactionArchive {
+
+    private final TransactionExportJdbcRepository transactionExportJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+    private final int fetchSize;
+    private final Map<LocalDate, ColumnarDayFile> openFiles = new ConcurrentHashMap<>();
+
+    public ColumnarTransactionArchive(TransactionExportJdbcRepository transactionExportJdbcRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${transfer.columnar.directory:data/columnar}") String directory,
+                                      @Value("${transfer.export.fetch-size:1000}") int fetchSize) {
+        this.transactionExportJdbcRepository = transactionExportJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        this.directory = Path.of(directory);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes, or rewrites, the file for a finished day from the hot and archive tables and returns
+     * the number of transactions in it.
+     */
+    public int writeDay(LocalDate date) {
+        if (!date.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Only finished days can be written, got " + date);
+        }
+
+        ColumnarDayWriter writer = new ColumnarDayWriter(date);
+        readOnlyTransaction.executeWithoutResult(status -> transactionExportJdbcRepository.streamTransactions(
+                null, null, date.atStartOfDay(), date.atTime(LocalTime.MAX), fetchSize,
+                rs -> writer.add(
+                        rs.getString("id"),
+                        rs.getString("source_account_number"),
+                        rs.getString("destination_account_number"),
+                        cents(rs.getBigDecimal("amount")),
+                        cents(rs.getBigDecimal("transaction_fee")),
+                        cents(rs.getBigDecimal("billed_amount")),
+                        rs.getString("status"),
+                        rs.getBoolean("commission_worthy"),
+                        cents(rs.getBigDecimal("commission")),
+                        rs.getTimestamp("created_at").toLocalDateTime())));
+
+        try {
+            Files.createDirectories(directory);
+            writer.write(pathFor(date));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write columnar file for " + date, ex);
+        }
+        openFiles.remove(date);
+        log.info("Wrote {} transactions for {} to {}", writer.getRows(), date, pathFor(date));
+        return writer.getRows();
+    }
+
+    public Optional<TransactionSummary> summarize(LocalDate date) {
+        return open(date).map(ColumnarDayFile::summarize);
+    }
+
+    /**
+     * Summaries of every written day in the range, both ends inclusive, oldest first.
+     */
+    public List<TransactionSummary> summarize(LocalDate startDate, LocalDate endDate) {
+        List<TransactionSummary> summaries = new ArrayList<>();
+        startDate.datesUntil(endDate.plusDays(1))
+                .forEach(date -> open(date).ifPresent(file -> summaries.add(file.summarize())));
+        return summaries;
+    }
+
+    /**
+     * Transactions sent from or to the account on written days in the range, both ends inclusive,
+     * oldest first.
+     */
+    public List<TransactionResponse> findByAccount(String accountNumber, LocalDate startDate, LocalDate endDate) {
+        List<TransactionResponse> matches = new ArrayList<>();
+        startDate.datesUntil(endDate.plusDays(1))
+                .forEach(date -> open(date).ifPresent(file -> matches.addAll(file.findByAccount(accountNumber))));
+        return matches;
+    }
+
+    Path pathFor(LocalDate date) {
+        return directory.resolve("transactions-" + date + ".col");
+    }
+
+    private Optional<ColumnarDayFile> open(LocalDate date) {
+        return Optional.ofNullable(openFiles.computeIfAbsent(date, day -> {
+            Path path = pathFor(day);
+            if (!Files.exists(path)) {
+                return null;
+            }
+            try {
+                return ColumnarDayFile.open(path);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not open columnar file " + path, ex);
+            }
+        }));
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount == null ? 0 : Money.of(amount).getMinorUnits();
+    }
+}
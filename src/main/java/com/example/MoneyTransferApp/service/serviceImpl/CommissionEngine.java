@@ -0,0 +1,135 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Marks successful transactions as commission worthy in keyset-ordered chunks, committing each
+ * chunk on its own. Only rows still flagged {@code commissionWorthy = false} are selected, so a run
+ * that dies halfway simply picks up the remaining rows next time. Each chunk locks and re-checks its
+ * rows before updating them, so an on-demand run overlapping the scheduled one skips rows the other
+ * has already done. By default each chunk is a single bulk UPDATE;
+ * {@code transfer.commission.bulk-update=false} computes commissions in Java for databases without a
+ * compatible ROUND.
+ */
+@Component
+@Slf4j
+public class CommissionEngine {
+
+    private final TransactionRepository transactionRepository;
+    private final LiveSummaryCounters liveSummaryCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final BigDecimal commissionPercentage;
+    private final long commissionRate;
+    private final int chunkSize;
+    private final boolean bulkUpdate;
+
+    public CommissionEngine(TransactionRepository transactionRepository,
+                            LiveSummaryCounters liveSummaryCounters,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${transfer.commission.percentage}") String commissionPercentage,
+                            @Value("${transfer.commission.chunk-size:1000}") int chunkSize,
+                            @Value("${transfer.commission.bulk-update:true}") boolean bulkUpdate) {
+        this.transactionRepository = transactionRepository;
+        this.liveSummaryCounters = liveSummaryCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            this.commissionRate = Money.parseRate(commissionPercentage);
+        } catch (ArithmeticException | NumberFormatException ex) {
+            throw new IllegalStateException("Invalid transfer.commission.percentage: " + commissionPercentage, ex);
+        }
+        this.commissionPercentage = new BigDecimal(commissionPercentage.trim());
+        this.chunkSize = chunkSize;
+        this.bulkUpdate = bulkUpdate;
+    }
+
+    public long run() {
+        long startedAt = System.nanoTime();
+        long updatedRows = 0;
+        int chunks = 0;
+        BigDecimal totalCommission = BigDecimal.ZERO;
+        String lastId = "";
+
+        while (true) {
+            List<String> ids = transactionRepository.findCommissionCandidateIds(lastId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            ChunkResult result = transactionTemplate.execute(status -> applyChunk(ids));
+            updatedRows += result.updatedRows();
+            totalCommission = totalCommission.add(result.commission());
+            chunks++;
+            lastId = ids.get(ids.size() - 1);
+
+            log.debug("Commission chunk {} committed: {} rows, {} rows/sec so far",
+                    chunks, result.updatedRows(), rowsPerSecond(updatedRows, startedAt));
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("Updated {} transactions as commission worthy in {} chunks with total commission of {} ({} rows/sec)",
+                updatedRows, chunks, totalCommission, rowsPerSecond(updatedRows, startedAt));
+        return updatedRows;
+    }
+
+    /**
+     * Applies commission to the rows of the chunk no other run has got to first, and sums only
+     * those, so runs that overlap never report or count the same commission twice.
+     */
+    private ChunkResult applyChunk(List<String> ids) {
+        List<String> claimed = transactionRepository.claimCommissionCandidates(ids);
+        if (claimed.isEmpty()) {
+            return new ChunkResult(0, BigDecimal.ZERO);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updatedRows = bulkUpdate
+                ? transactionRepository.applyCommission(claimed, commissionPercentage, now)
+                : applyCommissionPerEntity(claimed, now);
+
+        BigDecimal commission = transactionRepository.sumCommission(claimed);
+        if (liveSummaryCounters.isEnabled()) {
+            BigDecimal todaysCommission = transactionRepository.sumCommissionCreatedSince(claimed, LocalDate.now().atStartOfDay());
+            liveSummaryCounters.recordCommissionOnCommit(now, Money.of(todaysCommission));
+        }
+        return new ChunkResult(updatedRows, commission);
+    }
+
+    private int applyCommissionPerEntity(List<String> ids, LocalDateTime now) {
+        List<Transaction> transactions = transactionRepository.findAllById(ids);
+        int updatedRows = 0;
+        for (Transaction transaction : transactions) {
+            if (transaction.isCommissionWorthy()) {
+                continue;
+            }
+            transaction.setCommissionWorthy(true);
+            transaction.setCommission(Money.of(transaction.getTransactionFee()).applyRate(commissionRate).toBigDecimal());
+            transaction.setUpdatedAt(now);
+            updatedRows++;
+        }
+        transactionRepository.saveAll(transactions);
+        return updatedRows;
+    }
+
+    private long rowsPerSecond(long rows, long startedAt) {
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    private record ChunkResult(int updatedRows, BigDecimal commission) {
+    }
+}
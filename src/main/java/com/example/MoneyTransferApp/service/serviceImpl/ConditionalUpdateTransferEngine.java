@@ -0,0 +1,87 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransferPosting;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.AccountBalanceJdbcRepository;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.TransferEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves money with two set-based UPDATE statements and no prior SELECT. The debit only matches
+ * when the balance covers the billed amount, so its affected-row count replaces the Java-side
+ * balance check. The two statements run in account-number order so concurrent transfers on the
+ * same pair always lock their rows in the same sequence; a failure after the first statement
+ * rolls back with the surrounding transaction. Each UPDATE also returns the balance it left behind
+ * for the ledger, so a transfer stays at two statements.
+ */
+@Component
+@ConditionalOnProperty(name = "transfer.engine.mode", havingValue = "CONDITIONAL")
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalUpdateTransferEngine implements TransferEngine {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceJdbcRepository accountBalanceJdbcRepository;
+    private final LockOnceBatchPoster lockOnceBatchPoster;
+    private final TransferMetrics transferMetrics;
+
+    @Override
+    public TransferPosting applyTransfer(String sourceAccountNumber, String destinationAccountNumber,
+                              Money amount, Money billedAmount) {
+        LocalDateTime now = LocalDateTime.now();
+        long startedAt = System.nanoTime();
+
+        // Row locks are taken by the guarded UPDATEs themselves, so there is no separate lock phase
+        Money sourceBalance;
+        Money destinationBalance;
+        if (destinationAccountNumber.compareTo(sourceAccountNumber) < 0) {
+            destinationBalance = credit(destinationAccountNumber, amount, now);
+            sourceBalance = debit(sourceAccountNumber, billedAmount, now);
+        } else {
+            sourceBalance = debit(sourceAccountNumber, billedAmount, now);
+            destinationBalance = credit(destinationAccountNumber, amount, now);
+        }
+        TransferPosting posting = new TransferPosting(sourceAccountNumber, destinationAccountNumber, amount, billedAmount);
+        posting.succeed(sourceBalance, destinationBalance);
+        transferMetrics.recordPhase(TransferMetrics.BALANCE, startedAt);
+        log.info("Moved {} from account {} to {} (billed {})", amount, sourceAccountNumber,
+                destinationAccountNumber, billedAmount);
+        return posting;
+    }
+
+    @Override
+    public void applyTransfers(List<TransferPosting> postings) {
+        lockOnceBatchPoster.post(postings);
+    }
+
+    private Money debit(String accountNumber, Money billedAmount, LocalDateTime now) {
+        BigDecimal balance = accountBalanceJdbcRepository.debitIfSufficient(accountNumber, billedAmount.toBigDecimal(), now);
+        if (balance != null) {
+            return Money.of(balance);
+        }
+
+        if (!accountRepository.existsByAccountNumber(accountNumber)) {
+            throw new AccountNotFoundException("Source account not found");
+        }
+        log.warn("Insufficient funds in account {}. Required: {}", accountNumber, billedAmount);
+        throw new InsufficientFundsException("Insufficient funds");
+    }
+
+    private Money credit(String accountNumber, Money amount, LocalDateTime now) {
+        BigDecimal balance = accountBalanceJdbcRepository.credit(accountNumber, amount.toBigDecimal(), now);
+        if (balance == null) {
+            throw new AccountNotFoundException("Destination account not found");
+        }
+        return Money.of(balance);
+    }
+}
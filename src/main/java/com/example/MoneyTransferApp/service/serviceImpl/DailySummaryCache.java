@@ -0,0 +1,178 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
+import com.example.MoneyTransferApp.entity.TransactionSummary;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.TransactionArchiveJdbcRepository;
+import com.example.MoneyTransferApp.repository.TransactionPartitions;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.repository.TransactionSummaryRepository;
+import com.example.MoneyTransferApp.repository.TransactionTotals;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Summaries of finished days. A finished day does not change, so its summary is computed at most
+ * once per date, stored in transaction_summaries and then kept in memory for good. Concurrent
+ * requests for the same uncached date wait for a single load, which runs on the first caller's
+ * thread outside any lock so waiting virtual threads stay unpinned; the unique index on the summary date
+ * makes a second instance racing on the insert read the winner's row instead.
+ */
+@Component
+@Slf4j
+public class DailySummaryCache {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionSummaryRepository transactionSummaryRepository;
+    private final TransactionArchiveJdbcRepository transactionArchiveJdbcRepository;
+    private final TransactionPartitions transactionPartitions;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<LocalDate, TransactionSummaryResponse> summaries;
+    private final Map<LocalDate, CompletableFuture<TransactionSummaryResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public DailySummaryCache(TransactionRepository transactionRepository,
+                             TransactionSummaryRepository transactionSummaryRepository,
+                             TransactionArchiveJdbcRepository transactionArchiveJdbcRepository,
+                             TransactionPartitions transactionPartitions,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${transfer.summary.cache-size:3660}") long cacheSize) {
+        this.transactionRepository = transactionRepository;
+        this.transactionSummaryRepository = transactionSummaryRepository;
+        this.transactionArchiveJdbcRepository = transactionArchiveJdbcRepository;
+        this.transactionPartitions = transactionPartitions;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public TransactionSummaryResponse get(LocalDate date) {
+        TransactionSummaryResponse cached = summaries.getIfPresent(date);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<TransactionSummaryResponse> load = new CompletableFuture<>();
+        CompletableFuture<TransactionSummaryResponse> running = inFlight.putIfAbsent(date, load);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            TransactionSummaryResponse summary = summaries.getIfPresent(date);
+            if (summary == null) {
+                summary = loadOrCreate(date);
+                summaries.put(date, summary);
+            }
+            load.complete(summary);
+            return summary;
+        } catch (RuntimeException ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(date, load);
+        }
+    }
+
+    /**
+     * Recomputes the summary for a day and replaces the stored and cached copies, for when late
+     * changes such as commissions have landed on it. Days that are not over yet are stored but not
+     * cached.
+     */
+    public TransactionSummaryResponse refresh(LocalDate date) {
+        log.info("Generating transaction summary for date: {}", date);
+
+        // Straight after the commission run, so not from a replica that may not have caught up yet
+        TransactionSummary summary = summarize(date);
+        transactionSummaryRepository.findByDate(date).ifPresent(existing -> summary.setId(existing.getId()));
+        TransactionSummaryResponse response = TransactionSummaryResponse.fromTransactionSummary(
+                transactionSummaryRepository.save(summary));
+
+        if (date.isBefore(LocalDate.now())) {
+            summaries.put(date, response);
+        }
+        return response;
+    }
+
+    /**
+     * Aggregates a day from the transactions table, plus its month's archive table if the day has
+     * been archived, in a read-only transaction on the read pool.
+     */
+    public TransactionSummary build(LocalDate date) {
+        return readOnlyTransaction.execute(status -> summarize(date));
+    }
+
+    private TransactionSummary summarize(LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+        TransactionTotals totals = transactionRepository.summarizeCreatedBetween(start, end, TransactionStatus.SUCCESSFUL);
+
+        long totalTransactions = totals.getTotalTransactions();
+        long successfulTransactions = totals.getSuccessfulTransactions();
+        BigDecimal totalAmount = totals.getTotalAmount();
+        BigDecimal totalFees = totals.getTotalFees();
+        BigDecimal totalCommission = totals.getTotalCommission();
+        for (String archiveTable : transactionPartitions.archiveTablesFor(start, start)) {
+            TransactionTotals archived = transactionArchiveJdbcRepository.summarizeCreatedBetween(archiveTable, start, end);
+            totalTransactions += archived.getTotalTransactions();
+            successfulTransactions += archived.getSuccessfulTransactions();
+            totalAmount = totalAmount.add(archived.getTotalAmount());
+            totalFees = totalFees.add(archived.getTotalFees());
+            totalCommission = totalCommission.add(archived.getTotalCommission());
+        }
+
+        return TransactionSummary.builder()
+                .date(date)
+                .totalTransactions(totalTransactions)
+                .successfulTransactions(successfulTransactions)
+                .failedTransactions(totalTransactions - successfulTransactions)
+                .totalAmount(totalAmount)
+                .totalFees(totalFees)
+                .totalCommission(totalCommission)
+                .build();
+    }
+
+    private TransactionSummaryResponse await(CompletableFuture<TransactionSummaryResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private TransactionSummaryResponse loadOrCreate(LocalDate date) {
+        return transactionSummaryRepository.findByDate(date)
+                .map(TransactionSummaryResponse::fromTransactionSummary)
+                .orElseGet(() -> create(date));
+    }
+
+    private TransactionSummaryResponse create(LocalDate date) {
+        log.info("Generating transaction summary for date: {}", date);
+        try {
+            return TransactionSummaryResponse.fromTransactionSummary(transactionSummaryRepository.save(build(date)));
+        } catch (DataIntegrityViolationException ex) {
+            log.info("Transaction summary for {} was stored concurrently, reading it back", date);
+            return transactionSummaryRepository.findByDate(date)
+                    .map(TransactionSummaryResponse::fromTransactionSummary)
+                    .orElseThrow(() -> ex);
+        }
+    }
+}
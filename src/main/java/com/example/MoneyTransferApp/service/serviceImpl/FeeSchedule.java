@@ -0,0 +1,140 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.FeeTierRule;
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.enums.AccountClass;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, compiled set of fee tiers. Each account class gets its tiers as parallel arrays
+ * sorted by lower bound, so finding the tier for an amount is a binary search and computing the
+ * fee is plain long arithmetic.
+ */
+public final class FeeSchedule {
+
+    private static final long NO_CAP = Long.MAX_VALUE;
+
+    private final TierTable defaultTable;
+    private final TierTable[] tablesByClass;
+    private final int tierCount;
+
+    private FeeSchedule(TierTable defaultTable, TierTable[] tablesByClass, int tierCount) {
+        this.defaultTable = defaultTable;
+        this.tablesByClass = tablesByClass;
+        this.tierCount = tierCount;
+    }
+
+    public static FeeSchedule flat(String percentage, String cap) {
+        FeeTierRule rule = new FeeTierRule();
+        rule.setPercentage(percentage);
+        rule.setCap(new BigDecimal(cap.trim()));
+        return compile(List.of(rule));
+    }
+
+    public static FeeSchedule compile(List<FeeTierRule> rules) {
+        List<FeeTierRule> defaultRules = new ArrayList<>();
+        Map<AccountClass, List<FeeTierRule>> rulesByClass = new EnumMap<>(AccountClass.class);
+        for (FeeTierRule rule : rules) {
+            if (rule.getAccountClass() == null) {
+                defaultRules.add(rule);
+            } else {
+                rulesByClass.computeIfAbsent(rule.getAccountClass(), accountClass -> new ArrayList<>()).add(rule);
+            }
+        }
+        if (defaultRules.isEmpty()) {
+            throw new IllegalArgumentException("Fee rules must include tiers without an account class as the default");
+        }
+
+        TierTable[] tablesByClass = new TierTable[AccountClass.values().length];
+        rulesByClass.forEach((accountClass, classRules) ->
+                tablesByClass[accountClass.ordinal()] = TierTable.compile(accountClass.name(), classRules));
+        return new FeeSchedule(TierTable.compile("default", defaultRules), tablesByClass, rules.size());
+    }
+
+    public Money transactionFee(AccountClass accountClass, Money amount) {
+        return Money.ofMinor(transactionFeeMinor(accountClass, amount.getMinorUnits()));
+    }
+
+    public long transactionFeeMinor(AccountClass accountClass, long amountMinor) {
+        TierTable table = accountClass == null ? null : tablesByClass[accountClass.ordinal()];
+        return (table != null ? table : defaultTable).feeMinor(amountMinor);
+    }
+
+    /**
+     * Whether any account class has its own tiers; when not, callers can skip looking up the class.
+     */
+    public boolean isAccountClassSensitive() {
+        for (TierTable table : tablesByClass) {
+            if (table != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getTierCount() {
+        return tierCount;
+    }
+
+    private static final class TierTable {
+
+        private final long[] lowerBounds;
+        private final long[] rates;
+        private final long[] fixedFees;
+        private final long[] caps;
+
+        private TierTable(long[] lowerBounds, long[] rates, long[] fixedFees, long[] caps) {
+            this.lowerBounds = lowerBounds;
+            this.rates = rates;
+            this.fixedFees = fixedFees;
+            this.caps = caps;
+        }
+
+        private static TierTable compile(String name, List<FeeTierRule> rules) {
+            List<FeeTierRule> sorted = new ArrayList<>(rules);
+            sorted.sort(Comparator.comparing(FeeTierRule::getMinAmount));
+
+            int size = sorted.size();
+            long[] lowerBounds = new long[size];
+            long[] rates = new long[size];
+            long[] fixedFees = new long[size];
+            long[] caps = new long[size];
+            for (int i = 0; i < size; i++) {
+                FeeTierRule rule = sorted.get(i);
+                try {
+                    lowerBounds[i] = Money.of(rule.getMinAmount()).getMinorUnits();
+                    rates[i] = Money.parseRate(rule.getPercentage());
+                    fixedFees[i] = Money.of(rule.getFixedFee()).getMinorUnits();
+                    caps[i] = rule.getCap() == null ? NO_CAP : Money.of(rule.getCap()).getMinorUnits();
+                } catch (ArithmeticException | NumberFormatException | NullPointerException ex) {
+                    throw new IllegalArgumentException("Invalid fee tier " + rule + " in " + name
+                            + " table: rates support at most " + Money.RATE_SCALE + " decimal places", ex);
+                }
+                if (i > 0 && lowerBounds[i] == lowerBounds[i - 1]) {
+                    throw new IllegalArgumentException("Duplicate fee tier for minimum amount "
+                            + rule.getMinAmount() + " in " + name + " table");
+                }
+            }
+            if (lowerBounds[0] != 0) {
+                throw new IllegalArgumentException("The " + name + " fee table must start with a tier at 0");
+            }
+            return new TierTable(lowerBounds, rates, fixedFees, caps);
+        }
+
+        private long feeMinor(long amountMinor) {
+            int tier = Arrays.binarySearch(lowerBounds, amountMinor);
+            if (tier < 0) {
+                tier = Math.max(-tier - 2, 0);
+            }
+            long fee = Math.addExact(fixedFees[tier], Money.applyRate(amountMinor, rates[tier]));
+            return Math.min(fee, caps[tier]);
+        }
+    }
+}
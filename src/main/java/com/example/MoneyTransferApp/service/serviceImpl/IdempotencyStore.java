@@ -0,0 +1,150 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.IdempotencyRecord;
+import com.example.MoneyTransferApp.exception.InvalidTransactionException;
+import com.example.MoneyTransferApp.repository.IdempotencyRecordRepository;
+import com.example.MoneyTransferApp.repository.TransactionArchiveJdbcRepository;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Answers replays of an Idempotency-Key from a bounded in-memory cache, falling back to the
+ * unique-indexed idempotency_keys table. Concurrent requests carrying the same key wait for the
+ * first attempt instead of racing it; failed attempts are not remembered so a client can retry them.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchiveJdbcRepository transactionArchiveJdbcRepository;
+    private final Cache<String, CompletedTransfer> completedTransfers;
+    private final Map<String, CompletableFuture<CompletedTransfer>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            TransactionRepository transactionRepository,
+                            TransactionArchiveJdbcRepository transactionArchiveJdbcRepository,
+                            @Value("${transfer.idempotency.cache-size:100000}") long cacheSize,
+                            @Value("${transfer.idempotency.cache-ttl-minutes:1440}") long cacheTtlMinutes) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionArchiveJdbcRepository = transactionArchiveJdbcRepository;
+        this.completedTransfers = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .build();
+    }
+
+    public TransactionResponse execute(String idempotencyKey, TransferRequest request,
+                                       Function<String, TransactionResponse> transfer) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidTransactionException("Idempotency-Key must not exceed " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String fingerprint = fingerprint(request);
+        CompletedTransfer cached = completedTransfers.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            log.info("Replaying transfer {} for idempotency key {}", cached.response.getReference(), idempotencyKey);
+            return cached.replay(fingerprint);
+        }
+
+        CompletableFuture<CompletedTransfer> attempt = new CompletableFuture<>();
+        CompletableFuture<CompletedTransfer> running = inFlight.putIfAbsent(idempotencyKey, attempt);
+        if (running != null) {
+            log.info("Waiting for in-flight transfer with idempotency key {}", idempotencyKey);
+            return await(running).replay(fingerprint);
+        }
+
+        try {
+            CompletedTransfer completed = findRecorded(idempotencyKey)
+                    .orElseGet(() -> executeOnce(idempotencyKey, fingerprint, transfer));
+            completedTransfers.put(idempotencyKey, completed);
+            attempt.complete(completed);
+            return completed.replay(fingerprint);
+        } catch (RuntimeException ex) {
+            attempt.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(idempotencyKey, attempt);
+        }
+    }
+
+    private CompletedTransfer executeOnce(String idempotencyKey, String fingerprint,
+                                          Function<String, TransactionResponse> transfer) {
+        try {
+            return new CompletedTransfer(fingerprint, transfer.apply(fingerprint));
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance committed the same key first; our transfer was rolled back
+            return findRecorded(idempotencyKey).orElseThrow(() -> ex);
+        }
+    }
+
+    private Optional<CompletedTransfer> findRecorded(String idempotencyKey) {
+        return idempotencyRecordRepository.findByIdempotencyKey(idempotencyKey)
+                .flatMap(this::toCompletedTransfer);
+    }
+
+    private Optional<CompletedTransfer> toCompletedTransfer(IdempotencyRecord record) {
+        return transactionRepository.findById(record.getTransactionId())
+                .map(TransactionResponse::fromTransaction)
+                .or(() -> transactionArchiveJdbcRepository.findById(record.getTransactionId()))
+                .map(response -> new CompletedTransfer(record.getRequestFingerprint(), response));
+    }
+
+    private CompletedTransfer await(CompletableFuture<CompletedTransfer> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private String fingerprint(TransferRequest request) {
+        String canonical = String.join("|",
+                request.getSourceAccountNumber(),
+                request.getDestinationAccountNumber(),
+                request.getAmount().stripTrailingZeros().toPlainString(),
+                request.getDescription() == null ? "" : request.getDescription());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record CompletedTransfer(String fingerprint, TransactionResponse response) {
+
+        private TransactionResponse replay(String requestFingerprint) {
+            if (!fingerprint.equals(requestFingerprint)) {
+                throw new InvalidTransactionException("Idempotency-Key was already used for a different transfer request");
+            }
+            return response;
+        }
+    }
+}
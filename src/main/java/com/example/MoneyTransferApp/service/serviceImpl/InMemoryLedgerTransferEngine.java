@@ -0,0 +1,315 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransferPosting;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.TransferEngine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps authoritative balances in memory, guarded by a fixed set of lock stripes keyed by
+ * account number. Stripes are always taken in ascending index order so opposite-direction
+ * transfers and overlapping batches cannot deadlock. Stripes stay held until the surrounding
+ * transaction completes; a rollback reverts the in-memory postings before they are released.
+ * Each account also keeps a committed balance that only moves once a transaction commits, and that
+ * is what a background flusher writes back to the accounts table, so postings of transactions still
+ * in progress never reach it. Accounts are read from the database before any stripe is taken.
+ */
+@Component
+@ConditionalOnProperty(name = "transfer.engine.mode", havingValue = "LEDGER")
+@Slf4j
+public class InMemoryLedgerTransferEngine implements TransferEngine {
+
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] stripes;
+    private final Map<String, LedgerAccount> accounts = new ConcurrentHashMap<>();
+    private final Object writeBehindLock = new Object();
+    // Guarded by writeBehindLock and swapped out whole by each flush
+    private Set<String> dirtyAccounts = new HashSet<>();
+    private final ScheduledExecutorService writeBehindExecutor;
+    private final TransferMetrics transferMetrics;
+
+    public InMemoryLedgerTransferEngine(AccountRepository accountRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        TransferMetrics transferMetrics,
+                                        @Value("${transfer.ledger.stripes:1024}") int stripeCount,
+                                        @Value("${transfer.ledger.flush-interval-ms:50}") long flushIntervalMs) {
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transferMetrics = transferMetrics;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.writeBehindExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writeBehindExecutor.scheduleWithFixedDelay(this::flushDirtyBalances,
+                flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("In-memory ledger engine started with {} stripes, flushing every {} ms", stripeCount, flushIntervalMs);
+    }
+
+    @Override
+    public TransferPosting applyTransfer(String sourceAccountNumber, String destinationAccountNumber,
+                              Money amount, Money billedAmount) {
+        List<String> accountNumbers = List.of(sourceAccountNumber, destinationAccountNumber);
+        loadAccounts(accountNumbers);
+        int[] lockedStripes = stripeIndexes(accountNumbers);
+        lockStripes(lockedStripes);
+
+        boolean releaseDeferred = false;
+        long startedAt = System.nanoTime();
+        TransferPosting posting = new TransferPosting(sourceAccountNumber, destinationAccountNumber, amount, billedAmount);
+        try {
+            LedgerAccount source = loadAccount(sourceAccountNumber, "Source account not found");
+            LedgerAccount dest = loadAccount(destinationAccountNumber, "Destination account not found");
+
+            if (source.balance < billedAmount.getMinorUnits()) {
+                log.warn("Insufficient funds in account {}. Required: {}, Available: {}",
+                        sourceAccountNumber, billedAmount, Money.ofMinor(source.balance));
+                throw new InsufficientFundsException("Insufficient funds");
+            }
+
+            post(source, dest, amount.getMinorUnits(), billedAmount.getMinorUnits());
+            posting.succeed(Money.ofMinor(source.balance), Money.ofMinor(dest.balance));
+            transferMetrics.recordPhase(TransferMetrics.BALANCE, startedAt);
+            log.info("Posted {} from ledger account {} to {} (billed {})",
+                    amount, sourceAccountNumber, destinationAccountNumber, billedAmount);
+
+            releaseDeferred = releaseOnCompletion(lockedStripes, List.of(
+                    new AppliedPosting(source, dest, amount.getMinorUnits(), billedAmount.getMinorUnits())));
+        } finally {
+            if (!releaseDeferred) {
+                unlockStripes(lockedStripes);
+            }
+        }
+        return posting;
+    }
+
+    @Override
+    public void applyTransfers(List<TransferPosting> postings) {
+        Set<String> accountNumbers = new HashSet<>();
+        for (TransferPosting posting : postings) {
+            accountNumbers.add(posting.getSourceAccountNumber());
+            accountNumbers.add(posting.getDestinationAccountNumber());
+        }
+        loadAccounts(accountNumbers);
+        int[] lockedStripes = stripeIndexes(accountNumbers);
+        lockStripes(lockedStripes);
+
+        boolean releaseDeferred = false;
+        long startedAt = System.nanoTime();
+        try {
+            List<AppliedPosting> applied = new ArrayList<>(postings.size());
+            for (TransferPosting posting : postings) {
+                LedgerAccount source = findAccount(posting.getSourceAccountNumber());
+                LedgerAccount dest = findAccount(posting.getDestinationAccountNumber());
+
+                if (source == null) {
+                    posting.reject(TransactionStatus.FAILED, "Source account not found");
+                } else if (dest == null) {
+                    posting.reject(TransactionStatus.FAILED, "Destination account not found");
+                } else if (source.balance < posting.getBilledAmount().getMinorUnits()) {
+                    posting.reject(TransactionStatus.INSUFFICIENT_FUNDS, "Insufficient funds");
+                } else {
+                    long amount = posting.getAmount().getMinorUnits();
+                    long billedAmount = posting.getBilledAmount().getMinorUnits();
+                    post(source, dest, amount, billedAmount);
+                    applied.add(new AppliedPosting(source, dest, amount, billedAmount));
+                    posting.succeed(Money.ofMinor(source.balance), Money.ofMinor(dest.balance));
+                }
+            }
+            transferMetrics.recordPhase(TransferMetrics.BALANCE, startedAt);
+            log.info("Posted {} of {} batched transfers across {} ledger stripes",
+                    applied.size(), postings.size(), lockedStripes.length);
+
+            releaseDeferred = releaseOnCompletion(lockedStripes, applied);
+        } finally {
+            if (!releaseDeferred) {
+                unlockStripes(lockedStripes);
+            }
+        }
+    }
+
+    private void post(LedgerAccount source, LedgerAccount dest, long amount, long billedAmount) {
+        source.balance -= billedAmount;
+        dest.balance += amount;
+    }
+
+    private boolean releaseOnCompletion(int[] lockedStripes, List<AppliedPosting> applied) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(applied);
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        commit(applied);
+                    } else if (!applied.isEmpty()) {
+                        for (AppliedPosting posting : applied) {
+                            posting.source.balance += posting.billedAmount;
+                            posting.dest.balance -= posting.amount;
+                        }
+                        log.warn("Reverted {} ledger postings after rollback", applied.size());
+                    }
+                } finally {
+                    unlockStripes(lockedStripes);
+                }
+            }
+        });
+        return true;
+    }
+
+    private LedgerAccount loadAccount(String accountNumber, String notFoundMessage) {
+        LedgerAccount account = findAccount(accountNumber);
+        if (account == null) {
+            throw new AccountNotFoundException(notFoundMessage);
+        }
+        return account;
+    }
+
+    private LedgerAccount findAccount(String accountNumber) {
+        return accounts.get(accountNumber);
+    }
+
+    /**
+     * Reads accounts not yet held in memory, outside any stripe so a cold account does not keep
+     * its stripe waiting on the database. The stored balance of an account that is not in memory
+     * cannot change, so whichever concurrent load lands first is as good as any other.
+     */
+    private void loadAccounts(Collection<String> accountNumbers) {
+        for (String accountNumber : accountNumbers) {
+            if (!accounts.containsKey(accountNumber)) {
+                accountRepository.findByAccountNumberWithoutLock(accountNumber).ifPresent(account ->
+                        accounts.putIfAbsent(accountNumber,
+                                new LedgerAccount(accountNumber, Money.of(account.getBalance()).getMinorUnits())));
+            }
+        }
+    }
+
+    // Both sides move together, so a flush never sees a debit without its credit
+    private void commit(List<AppliedPosting> applied) {
+        synchronized (writeBehindLock) {
+            for (AppliedPosting posting : applied) {
+                posting.source.committedBalance -= posting.billedAmount;
+                posting.dest.committedBalance += posting.amount;
+                dirtyAccounts.add(posting.source.accountNumber);
+                dirtyAccounts.add(posting.dest.accountNumber);
+            }
+        }
+    }
+
+    private int[] stripeIndexes(Collection<String> accountNumbers) {
+        return accountNumbers.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private int stripeIndex(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        hash ^= (hash >>> 16);
+        return (hash & 0x7fffffff) % stripes.length;
+    }
+
+    private void lockStripes(int[] lockedStripes) {
+        long startedAt = System.nanoTime();
+        for (int stripe : lockedStripes) {
+            stripes[stripe].lock();
+        }
+        transferMetrics.recordPhase(TransferMetrics.LOCK, startedAt);
+    }
+
+    private void unlockStripes(int[] lockedStripes) {
+        for (int i = lockedStripes.length - 1; i >= 0; i--) {
+            stripes[lockedStripes[i]].unlock();
+        }
+    }
+
+    private void flushDirtyBalances() {
+        Map<String, Money> balances;
+        synchronized (writeBehindLock) {
+            if (dirtyAccounts.isEmpty()) {
+                return;
+            }
+            balances = new HashMap<>(dirtyAccounts.size() * 2);
+            for (String accountNumber : dirtyAccounts) {
+                balances.put(accountNumber, Money.ofMinor(accounts.get(accountNumber).committedBalance));
+            }
+            dirtyAccounts = new HashSet<>();
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> balances.forEach((accountNumber, balance) ->
+                    accountRepository.updateBalance(accountNumber, balance.toBigDecimal(), now)));
+            log.debug("Flushed {} ledger balances to the accounts table", balances.size());
+        } catch (Exception ex) {
+            log.error("Failed to flush {} ledger balances, will retry: {}", balances.size(), ex.getMessage(), ex);
+            synchronized (writeBehindLock) {
+                dirtyAccounts.addAll(balances.keySet());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeBehindExecutor.shutdown();
+        try {
+            writeBehindExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flushDirtyBalances();
+    }
+
+    private record AppliedPosting(LedgerAccount source, LedgerAccount dest, long amount, long billedAmount) {
+    }
+
+    private static final class LedgerAccount {
+
+        private final String accountNumber;
+        // Minor units including postings of open transactions; guarded by the account's stripe lock
+        private long balance;
+        // Minor units after committed postings only, what gets written back; guarded by writeBehindLock
+        private long committedBalance;
+
+        private LedgerAccount(String accountNumber, long balance) {
+            this.accountNumber = accountNumber;
+            this.balance = balance;
+            this.committedBalance = balance;
+        }
+    }
+}
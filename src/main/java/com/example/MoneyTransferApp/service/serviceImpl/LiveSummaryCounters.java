@@ -0,0 +1,189 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.repository.TransactionTotals;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Running totals for the current day, bumped as transfers commit so the summary for today can be
+ * answered without touching the transactions table. Amounts are summed in minor units on
+ * {@link LongAdder}s, so recording does not contend or allocate; the lock is only taken when the
+ * day rolls over. Seeded from the database on startup. Disabled unless
+ * {@code transfer.summary.live-counters.enabled} is set.
+ */
+@Component
+@Slf4j
+public class LiveSummaryCounters {
+
+    private final TransactionRepository transactionRepository;
+    private final boolean enabled;
+    private final ReentrantLock rollOverLock = new ReentrantLock();
+    private volatile DayTotals current;
+
+    public LiveSummaryCounters(TransactionRepository transactionRepository,
+                               @Value("${transfer.summary.live-counters.enabled:false}") boolean enabled) {
+        this.transactionRepository = transactionRepository;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void seed() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        TransactionTotals totals = transactionRepository.summarizeCreatedBetween(
+                today.atStartOfDay(), today.plusDays(1).atStartOfDay(), TransactionStatus.SUCCESSFUL);
+
+        DayTotals seeded = new DayTotals(today);
+        seeded.totalTransactions.add(totals.getTotalTransactions());
+        seeded.successfulTransactions.add(totals.getSuccessfulTransactions());
+        seeded.totalAmount.add(Money.of(totals.getTotalAmount()).getMinorUnits());
+        seeded.totalFees.add(Money.of(totals.getTotalFees()).getMinorUnits());
+        seeded.totalCommission.add(Money.of(totals.getTotalCommission()).getMinorUnits());
+        current = seeded;
+        log.info("Seeded live summary counters for {} with {} transactions", today, totals.getTotalTransactions());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a transaction once the surrounding database transaction commits, or immediately when
+     * there is none.
+     */
+    public void recordOnCommit(LocalDateTime createdAt, TransactionStatus status, Money amount, Money transactionFee) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(createdAt.toLocalDate(), status, amount, transactionFee);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(createdAt.toLocalDate(), status, amount, transactionFee);
+            }
+        });
+    }
+
+    /**
+     * Adds commission once the surrounding database transaction commits, or immediately when there is
+     * none, so a chunk that rolls back never reaches the counters.
+     */
+    public void recordCommissionOnCommit(LocalDateTime createdAt, Money commission) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordCommission(createdAt.toLocalDate(), commission);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordCommission(createdAt.toLocalDate(), commission);
+            }
+        });
+    }
+
+    /**
+     * Returns the running totals for the given day, or {@code null} when the counters do not cover it.
+     */
+    public TransactionSummaryResponse snapshot(LocalDate day) {
+        DayTotals totals = current;
+        if (!enabled || totals == null || !day.equals(totals.date)) {
+            return null;
+        }
+
+        long totalTransactions = totals.totalTransactions.sum();
+        long successfulTransactions = totals.successfulTransactions.sum();
+        return TransactionSummaryResponse.builder()
+                .date(totals.date)
+                .totalTransactions(totalTransactions)
+                .successfulTransactions(successfulTransactions)
+                .failedTransactions(totalTransactions - successfulTransactions)
+                .totalAmount(Money.ofMinor(totals.totalAmount.sum()).toBigDecimal())
+                .totalFees(Money.ofMinor(totals.totalFees.sum()).toBigDecimal())
+                .totalCommission(Money.ofMinor(totals.totalCommission.sum()).toBigDecimal())
+                .build();
+    }
+
+    private void record(LocalDate day, TransactionStatus status, Money amount, Money transactionFee) {
+        DayTotals totals = totalsFor(day);
+        if (totals == null) {
+            return;
+        }
+
+        totals.totalTransactions.increment();
+        if (status == TransactionStatus.SUCCESSFUL) {
+            totals.successfulTransactions.increment();
+            totals.totalAmount.add(amount.getMinorUnits());
+            totals.totalFees.add(transactionFee.getMinorUnits());
+        }
+    }
+
+    private void recordCommission(LocalDate day, Money commission) {
+        DayTotals totals = totalsFor(day);
+        if (totals != null) {
+            totals.totalCommission.add(commission.getMinorUnits());
+        }
+    }
+
+    // Returns null for days the counters no longer cover
+    private DayTotals totalsFor(LocalDate day) {
+        DayTotals totals = current;
+        if (totals != null && day.equals(totals.date)) {
+            return totals;
+        }
+
+        rollOverLock.lock();
+        try {
+            totals = current;
+            if (totals != null && day.isBefore(totals.date)) {
+                return null;
+            }
+            if (totals == null || !day.equals(totals.date)) {
+                totals = new DayTotals(day);
+                current = totals;
+            }
+            return totals;
+        } finally {
+            rollOverLock.unlock();
+        }
+    }
+
+    private static final class DayTotals {
+
+        private final LocalDate date;
+        private final LongAdder totalTransactions = new LongAdder();
+        private final LongAdder successfulTransactions = new LongAdder();
+        private final LongAdder totalAmount = new LongAdder();
+        private final LongAdder totalFees = new LongAdder();
+        private final LongAdder totalCommission = new LongAdder();
+
+        private DayTotals(LocalDate date) {
+            this.date = date;
+        }
+    }
+}
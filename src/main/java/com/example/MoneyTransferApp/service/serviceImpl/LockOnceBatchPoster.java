@@ -0,0 +1,81 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransferPosting;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.AccountBalanceJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Batch posting shared by the database-backed engines: every distinct account is locked once in
+ * account-number order, postings are applied in memory and the new balances are written back
+ * with a single JDBC batch.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LockOnceBatchPoster {
+
+    private final AccountBalanceJdbcRepository accountBalanceJdbcRepository;
+    private final TransferMetrics transferMetrics;
+
+    public void post(List<TransferPosting> postings) {
+        SortedSet<String> accountNumbers = new TreeSet<>();
+        for (TransferPosting posting : postings) {
+            accountNumbers.add(posting.getSourceAccountNumber());
+            accountNumbers.add(posting.getDestinationAccountNumber());
+        }
+
+        long startedAt = System.nanoTime();
+        Map<String, Money> balances = new HashMap<>();
+        accountBalanceJdbcRepository.lockBalances(accountNumbers)
+                .forEach((accountNumber, balance) -> balances.put(accountNumber, Money.of(balance)));
+        transferMetrics.recordPhase(TransferMetrics.LOCK, startedAt);
+        long updateStartedAt = System.nanoTime();
+        Map<String, BigDecimal> updatedBalances = new HashMap<>();
+        int applied = 0;
+
+        for (TransferPosting posting : postings) {
+            String sourceAccountNumber = posting.getSourceAccountNumber();
+            String destinationAccountNumber = posting.getDestinationAccountNumber();
+            Money sourceBalance = balances.get(sourceAccountNumber);
+            Money destBalance = balances.get(destinationAccountNumber);
+
+            if (sourceBalance == null) {
+                posting.reject(TransactionStatus.FAILED, "Source account not found");
+                continue;
+            }
+            if (destBalance == null) {
+                posting.reject(TransactionStatus.FAILED, "Destination account not found");
+                continue;
+            }
+            if (sourceBalance.isLessThan(posting.getBilledAmount())) {
+                posting.reject(TransactionStatus.INSUFFICIENT_FUNDS, "Insufficient funds");
+                continue;
+            }
+
+            Money newSourceBalance = sourceBalance.minus(posting.getBilledAmount());
+            Money newDestBalance = destBalance.plus(posting.getAmount());
+            balances.put(sourceAccountNumber, newSourceBalance);
+            balances.put(destinationAccountNumber, newDestBalance);
+            updatedBalances.put(sourceAccountNumber, newSourceBalance.toBigDecimal());
+            updatedBalances.put(destinationAccountNumber, newDestBalance.toBigDecimal());
+            posting.succeed(newSourceBalance, newDestBalance);
+            applied++;
+        }
+
+        accountBalanceJdbcRepository.updateBalances(updatedBalances);
+        transferMetrics.recordPhase(TransferMetrics.BALANCE, updateStartedAt);
+        log.info("Applied {} of {} batched postings across {} locked accounts",
+                applied, postings.size(), balances.size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransferPosting;
+import com.example.MoneyTransferApp.entity.Account;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.TransferEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "transfer.engine.mode", havingValue = "PESSIMISTIC", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PessimisticTransferEngine implements TransferEngine {
+
+    private final AccountRepository accountRepository;
+    private final LockOnceBatchPoster lockOnceBatchPoster;
+    private final TransferMetrics transferMetrics;
+
+    @Override
+    public TransferPosting applyTransfer(String sourceAccountNumber, String destinationAccountNumber,
+                              Money amount, Money billedAmount) {
+        long startedAt = System.nanoTime();
+        Account source = accountRepository.findByAccountNumber(sourceAccountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Source account not found"));
+
+        Account dest = accountRepository.findByAccountNumber(destinationAccountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Destination account not found"));
+        transferMetrics.recordPhase(TransferMetrics.LOCK, startedAt);
+
+        Money sourceBalance = Money.of(source.getBalance());
+        if (sourceBalance.isLessThan(billedAmount)) {
+            log.warn("Insufficient funds in account {}. Required: {}, Available: {}",
+                    source.getAccountNumber(), billedAmount, sourceBalance);
+            throw new InsufficientFundsException("Insufficient funds");
+        }
+
+        long updateStartedAt = System.nanoTime();
+        Money newSourceBalance = sourceBalance.minus(billedAmount);
+        Money newDestBalance = Money.of(dest.getBalance()).plus(amount);
+        source.setBalance(newSourceBalance.toBigDecimal());
+        accountRepository.save(source);
+        log.info("Debited source account {} with total {}", source.getAccountNumber(), billedAmount);
+
+        dest.setBalance(newDestBalance.toBigDecimal());
+        accountRepository.save(dest);
+        log.info("Credited destination account {} with amount {}", dest.getAccountNumber(), amount);
+        transferMetrics.recordPhase(TransferMetrics.BALANCE, updateStartedAt);
+
+        TransferPosting posting = new TransferPosting(sourceAccountNumber, destinationAccountNumber, amount, billedAmount);
+        posting.succeed(newSourceBalance, newDestBalance);
+        return posting;
+    }
+
+    @Override
+    public void applyTransfers(List<TransferPosting> postings) {
+        lockOnceBatchPoster.post(postings);
+    }
+}
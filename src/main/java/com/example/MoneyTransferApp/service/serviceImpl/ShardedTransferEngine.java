@@ -0,0 +1,526 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransferPosting;
+import com.example.MoneyTransferApp.entity.LedgerEntry;
+import com.example.MoneyTransferApp.enums.LedgerEntryType;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.repository.LedgerEntryJdbcRepository;
+import com.example.MoneyTransferApp.service.TransferEngine;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hashes every account number onto one of N shards. Each shard is a Disruptor ring with a single
+ * consumer thread that exclusively owns the balances of its accounts, so no account is ever
+ * locked and opposite-direction transfers cannot deadlock.
+ * <p>
+ * A transfer is a two-phase hand-off. First the source shard debits the billed amount (or refuses)
+ * while the destination shard confirms the account exists. The credit is only published once the
+ * caller's transaction completes: to the destination on commit, back to the source on rollback. A
+ * credited amount therefore becomes spendable after commit, never before. Balances are written back
+ * to the accounts table by a background flusher, as with the LEDGER engine. Each account keeps its
+ * committed balance apart from the balance shards debit against; the flusher writes committed
+ * balances only, and both sides of a transfer become committed, and dirty, in one step once the
+ * caller commits, so a flush never persists a debit without its credit. The same flusher writes both
+ * ledger entries of each transfer, with the committed balances they leave behind, so a statement
+ * never shows a balance that counts another transfer's reservation.
+ * <p>
+ * Shard threads never touch the database. The first time an account is seen, the caller reads its
+ * balance on its own thread and publishes it to the owning shard ahead of its commands, so a cold
+ * account does not stall every other account on that shard behind a query.
+ */
+@Component
+@ConditionalOnProperty(name = "transfer.engine.mode", havingValue = "SHARDED")
+@Slf4j
+public class ShardedTransferEngine implements TransferEngine {
+
+    private final AccountRepository accountRepository;
+    private final LedgerEntryJdbcRepository ledgerEntryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Shard[] shards;
+    private final Object writeBehindLock = new Object();
+    // Both guarded by writeBehindLock and swapped out whole by each flush
+    private Map<String, ShardAccount> dirtyAccounts = new HashMap<>();
+    private List<LedgerEntry> pendingLedgerEntries = new ArrayList<>();
+    // Accounts whose balance has been published to their shard; only grows
+    private final Set<String> loadedAccounts = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService writeBehindExecutor;
+    private final TransferMetrics transferMetrics;
+
+    public ShardedTransferEngine(AccountRepository accountRepository,
+                                 LedgerEntryJdbcRepository ledgerEntryJdbcRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 TransferMetrics transferMetrics,
+                                 @Value("${transfer.sharded.shards:8}") int shardCount,
+                                 @Value("${transfer.sharded.ring-size:4096}") int ringSize,
+                                 @Value("${transfer.sharded.wait-strategy:BLOCKING}") String waitStrategy,
+                                 @Value("${transfer.sharded.flush-interval-ms:50}") long flushIntervalMs,
+                                 @Value("${transfer.sharded.stats-log-interval-ms:60000}") long statsLogIntervalMs) {
+        if (shardCount < 1 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalStateException("transfer.sharded.shards must be positive and transfer.sharded.ring-size a power of two");
+        }
+        this.accountRepository = accountRepository;
+        this.ledgerEntryJdbcRepository = ledgerEntryJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transferMetrics = transferMetrics;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, ringSize, waitStrategy(waitStrategy));
+        }
+        this.writeBehindExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sharded-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writeBehindExecutor.scheduleWithFixedDelay(this::flushDirtyBalances,
+                flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (statsLogIntervalMs > 0) {
+            writeBehindExecutor.scheduleWithFixedDelay(this::logShardStats,
+                    statsLogIntervalMs, statsLogIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        log.info("Sharded engine started with {} shards of {} slots ({} wait), flushing every {} ms",
+                shardCount, ringSize, waitStrategy, flushIntervalMs);
+    }
+
+    @Override
+    public TransferPosting applyTransfer(String sourceAccountNumber, String destinationAccountNumber,
+                              Money amount, Money billedAmount) {
+        TransferPosting posting = new TransferPosting(sourceAccountNumber, destinationAccountNumber, amount, billedAmount);
+        reserve(List.of(posting));
+
+        if (posting.getStatus() == TransactionStatus.INSUFFICIENT_FUNDS) {
+            log.warn("Insufficient funds in account {}. Required: {}", sourceAccountNumber, billedAmount);
+            throw new InsufficientFundsException(posting.getStatusMessage());
+        }
+        if (!posting.isSuccessful()) {
+            throw new AccountNotFoundException(posting.getStatusMessage());
+        }
+        log.info("Debited {} from shard account {} for {} (billed {})",
+                amount, sourceAccountNumber, destinationAccountNumber, billedAmount);
+        return posting;
+    }
+
+    @Override
+    public void applyTransfers(List<TransferPosting> postings) {
+        int reserved = reserve(postings);
+        log.info("Reserved {} of {} batched transfers across {} shards", reserved, postings.size(), shards.length);
+    }
+
+    /**
+     * Phase one: publishes every debit and destination check before waiting on any of them, so the
+     * shards work in parallel; debits of one source are applied in posting order. Successful
+     * postings have their credit scheduled for phase two.
+     */
+    private int reserve(List<TransferPosting> postings) {
+        // Nothing is locked; the round trip through the shards is the balance update
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Outcome>> debits = new ArrayList<>(postings.size());
+        List<CompletableFuture<Outcome>> checks = new ArrayList<>(postings.size());
+        for (TransferPosting posting : postings) {
+            load(posting.getSourceAccountNumber());
+            load(posting.getDestinationAccountNumber());
+        }
+        for (TransferPosting posting : postings) {
+            debits.add(submit(Command.DEBIT, posting.getSourceAccountNumber(), posting.getBilledAmount().getMinorUnits()));
+            checks.add(submit(Command.CHECK, posting.getDestinationAccountNumber(), 0));
+        }
+
+        List<Reservation> reserved = new ArrayList<>(postings.size());
+        int settled = 0;
+        try {
+            for (; settled < postings.size(); settled++) {
+                TransferPosting posting = postings.get(settled);
+                Outcome debit = debits.get(settled).join();
+                Outcome check = checks.get(settled).join();
+
+                if (debit.reply() == Reply.NOT_FOUND) {
+                    posting.reject(TransactionStatus.FAILED, "Source account not found");
+                } else if (check.reply() == Reply.NOT_FOUND) {
+                    if (debit.reply() == Reply.APPLIED) {
+                        publishCredit(posting.getSourceAccountNumber(), posting.getBilledAmount());
+                    }
+                    posting.reject(TransactionStatus.FAILED, "Destination account not found");
+                } else if (debit.reply() == Reply.INSUFFICIENT) {
+                    posting.reject(TransactionStatus.INSUFFICIENT_FUNDS, "Insufficient funds");
+                } else {
+                    reserved.add(new Reservation(posting, debit.account(), check.account()));
+                    // Neither committed balance is known until the transfer settles after commit
+                    posting.succeed(null, null);
+                }
+            }
+        } catch (RuntimeException ex) {
+            // Debits that were or will still be applied must go back to their source
+            reserved.forEach(reservation -> publishCredit(reservation.posting().getSourceAccountNumber(),
+                    reservation.posting().getBilledAmount()));
+            for (int i = settled; i < postings.size(); i++) {
+                TransferPosting posting = postings.get(i);
+                debits.get(i).thenAccept(outcome -> {
+                    if (outcome.reply() == Reply.APPLIED) {
+                        publishCredit(posting.getSourceAccountNumber(), posting.getBilledAmount());
+                    }
+                });
+            }
+            throw ex;
+        }
+
+        transferMetrics.recordPhase(TransferMetrics.BALANCE, startedAt);
+        settleOnCompletion(reserved);
+        return reserved.size();
+    }
+
+    /**
+     * Phase two: credits the destinations once the caller's transaction commits, or refunds the
+     * sources if it rolls back.
+     */
+    private void settleOnCompletion(List<Reservation> reserved) {
+        if (reserved.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            settle(reserved, true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                settle(reserved, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void settle(List<Reservation> reserved, boolean committed) {
+        if (!committed) {
+            reserved.forEach(reservation -> publishCredit(reservation.posting().getSourceAccountNumber(),
+                    reservation.posting().getBilledAmount()));
+            log.warn("Refunded {} shard debits after rollback", reserved.size());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (writeBehindLock) {
+            for (Reservation reservation : reserved) {
+                TransferPosting posting = reservation.posting();
+                ShardAccount source = reservation.source();
+                ShardAccount destination = reservation.destination();
+                source.committedBalance -= posting.getBilledAmount().getMinorUnits();
+                destination.committedBalance += posting.getAmount().getMinorUnits();
+                dirtyAccounts.put(source.accountNumber, source);
+                dirtyAccounts.put(destination.accountNumber, destination);
+                if (posting.getTransactionId() != null) {
+                    pendingLedgerEntries.add(LedgerEntry.builder()
+                            .accountNumber(source.accountNumber)
+                            .transactionId(posting.getTransactionId())
+                            .entryType(LedgerEntryType.DEBIT)
+                            .amount(posting.getBilledAmount().toBigDecimal())
+                            .balanceAfter(Money.ofMinor(source.committedBalance).toBigDecimal())
+                            .postedAt(now)
+                            .build());
+                    pendingLedgerEntries.add(LedgerEntry.builder()
+                            .accountNumber(destination.accountNumber)
+                            .transactionId(posting.getTransactionId())
+                            .entryType(LedgerEntryType.CREDIT)
+                            .amount(posting.getAmount().toBigDecimal())
+                            .balanceAfter(Money.ofMinor(destination.committedBalance).toBigDecimal())
+                            .postedAt(now)
+                            .build());
+                }
+            }
+        }
+        // Makes the credits spendable
+        reserved.forEach(reservation -> publishCredit(reservation.posting().getDestinationAccountNumber(),
+                reservation.posting().getAmount()));
+    }
+
+    /**
+     * Publishes the stored balance of an account its shard has not seen yet. Ring order puts the load
+     * ahead of anything published after it, including other callers' commands once the account is in
+     * loadedAccounts; a shard that already holds the account ignores a second load.
+     */
+    private void load(String accountNumber) {
+        if (loadedAccounts.contains(accountNumber)) {
+            return;
+        }
+        accountRepository.findByAccountNumberWithoutLock(accountNumber).ifPresent(account -> {
+            shardFor(accountNumber).publish(Command.LOAD, accountNumber,
+                    Money.of(account.getBalance()).getMinorUnits(), null);
+            loadedAccounts.add(accountNumber);
+        });
+    }
+
+    private void publishCredit(String accountNumber, Money amount) {
+        shardFor(accountNumber).publish(Command.CREDIT, accountNumber, amount.getMinorUnits(), null);
+    }
+
+    private CompletableFuture<Outcome> submit(Command command, String accountNumber, long amount) {
+        CompletableFuture<Outcome> reply = new CompletableFuture<>();
+        shardFor(accountNumber).publish(command, accountNumber, amount, reply);
+        return reply;
+    }
+
+    private Shard shardFor(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        hash ^= (hash >>> 16);
+        return shards[(hash & 0x7fffffff) % shards.length];
+    }
+
+    public List<ShardStats> getShardStats() {
+        List<ShardStats> stats = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            stats.add(shard.stats());
+        }
+        return stats;
+    }
+
+    private void logShardStats() {
+        for (ShardStats stats : getShardStats()) {
+            if (stats.processed() > 0) {
+                log.info("Shard {}: queue depth {}, {} commands, mean latency {} us, max latency {} us",
+                        stats.shard(), stats.queueDepth(), stats.processed(),
+                        stats.meanLatencyMicros(), stats.maxLatencyMicros());
+            }
+        }
+    }
+
+    private void flushDirtyBalances() {
+        List<ShardAccount> batch;
+        Map<String, BigDecimal> balances;
+        List<LedgerEntry> entries;
+        synchronized (writeBehindLock) {
+            if (dirtyAccounts.isEmpty() && pendingLedgerEntries.isEmpty()) {
+                return;
+            }
+            // Read under the lock so both sides of every settled transfer are in the same snapshot
+            batch = new ArrayList<>(dirtyAccounts.values());
+            balances = new HashMap<>(batch.size() * 2);
+            batch.forEach(account -> balances.put(account.accountNumber,
+                    Money.ofMinor(account.committedBalance).toBigDecimal()));
+            entries = pendingLedgerEntries;
+            dirtyAccounts = new HashMap<>();
+            pendingLedgerEntries = new ArrayList<>();
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                balances.forEach((accountNumber, balance) -> accountRepository.updateBalance(accountNumber, balance, now));
+                ledgerEntryJdbcRepository.insertAll(entries);
+            });
+            log.debug("Flushed {} shard balances and {} ledger entries", balances.size(), entries.size());
+        } catch (Exception ex) {
+            log.error("Failed to flush {} shard balances, will retry: {}", balances.size(), ex.getMessage(), ex);
+            synchronized (writeBehindLock) {
+                batch.forEach(account -> dirtyAccounts.putIfAbsent(account.accountNumber, account));
+                pendingLedgerEntries.addAll(entries);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.shutdown();
+        }
+        writeBehindExecutor.shutdown();
+        try {
+            writeBehindExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flushDirtyBalances();
+    }
+
+    private static WaitStrategy waitStrategy(String name) {
+        return switch (name.trim().toUpperCase()) {
+            case "BLOCKING" -> new BlockingWaitStrategy();
+            case "SLEEPING" -> new SleepingWaitStrategy();
+            case "YIELDING" -> new YieldingWaitStrategy();
+            case "BUSY_SPIN" -> new BusySpinWaitStrategy();
+            default -> throw new IllegalStateException("Unknown transfer.sharded.wait-strategy: " + name);
+        };
+    }
+
+    public record ShardStats(int shard, long queueDepth, long processed,
+                             long meanLatencyMicros, long maxLatencyMicros) {
+    }
+
+    private enum Command {
+        LOAD, CHECK, DEBIT, CREDIT
+    }
+
+    private enum Reply {
+        APPLIED, INSUFFICIENT, NOT_FOUND
+    }
+
+    private record Outcome(Reply reply, ShardAccount account) {
+    }
+
+    private record Reservation(TransferPosting posting, ShardAccount source, ShardAccount destination) {
+    }
+
+    private static final class ShardEvent {
+
+        private Command command;
+        private String accountNumber;
+        private long amount;
+        private CompletableFuture<Outcome> reply;
+        private long publishedAt;
+    }
+
+    private final class Shard implements EventHandler<ShardEvent> {
+
+        private final int index;
+        private final Disruptor<ShardEvent> disruptor;
+        private final RingBuffer<ShardEvent> ringBuffer;
+        // Only touched by the shard's own thread
+        private final Map<String, ShardAccount> accounts = new HashMap<>();
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private volatile long maxLatencyNanos;
+
+        private Shard(int index, int ringSize, WaitStrategy waitStrategy) {
+            this.index = index;
+            this.disruptor = new Disruptor<>(ShardEvent::new, ringSize, runnable -> {
+                Thread thread = new Thread(runnable, "transfer-shard-" + index);
+                thread.setDaemon(true);
+                return thread;
+            }, ProducerType.MULTI, waitStrategy);
+            disruptor.handleEventsWith(this);
+            this.ringBuffer = disruptor.start();
+        }
+
+        private void publish(Command command, String accountNumber, long amount, CompletableFuture<Outcome> reply) {
+            long sequence = ringBuffer.next();
+            try {
+                ShardEvent event = ringBuffer.get(sequence);
+                event.command = command;
+                event.accountNumber = accountNumber;
+                event.amount = amount;
+                event.reply = reply;
+                event.publishedAt = System.nanoTime();
+            } finally {
+                ringBuffer.publish(sequence);
+            }
+        }
+
+        @Override
+        public void onEvent(ShardEvent event, long sequence, boolean endOfBatch) {
+            CompletableFuture<Outcome> reply = event.reply;
+            try {
+                Outcome result = handle(event.command, event.accountNumber, event.amount);
+                if (reply != null) {
+                    reply.complete(result);
+                }
+            } catch (RuntimeException ex) {
+                // An exception must not escape, it would halt the shard
+                log.error("Shard {} failed to {} account {}: {}", index, event.command, event.accountNumber, ex.getMessage(), ex);
+                if (reply != null) {
+                    reply.completeExceptionally(ex);
+                }
+            } finally {
+                long latency = System.nanoTime() - event.publishedAt;
+                processed.increment();
+                totalLatencyNanos.add(latency);
+                if (latency > maxLatencyNanos) {
+                    maxLatencyNanos = latency;
+                }
+                event.accountNumber = null;
+                event.reply = null;
+            }
+        }
+
+        private Outcome handle(Command command, String accountNumber, long amount) {
+            if (command == Command.LOAD) {
+                ShardAccount account = accounts.computeIfAbsent(accountNumber, number -> new ShardAccount(number, amount));
+                return new Outcome(Reply.APPLIED, account);
+            }
+
+            ShardAccount account = accounts.get(accountNumber);
+            if (account == null) {
+                if (command == Command.CREDIT) {
+                    log.error("Shard {} dropped a credit of {} to missing account {}", index, Money.ofMinor(amount), accountNumber);
+                }
+                return new Outcome(Reply.NOT_FOUND, null);
+            }
+
+            // Only the available balance moves here; committed balances move when the caller settles
+            switch (command) {
+                case DEBIT -> {
+                    if (account.balance < amount) {
+                        return new Outcome(Reply.INSUFFICIENT, account);
+                    }
+                    account.balance -= amount;
+                }
+                case CREDIT -> account.balance += amount;
+                default -> {
+                }
+            }
+            return new Outcome(Reply.APPLIED, account);
+        }
+
+        private ShardStats stats() {
+            long count = processed.sum();
+            long mean = count == 0 ? 0 : totalLatencyNanos.sum() / count;
+            return new ShardStats(index, ringBuffer.getBufferSize() - ringBuffer.remainingCapacity(),
+                    count, mean / 1_000, maxLatencyNanos / 1_000);
+        }
+
+        private void shutdown() {
+            try {
+                disruptor.shutdown(5, TimeUnit.SECONDS);
+            } catch (com.lmax.disruptor.TimeoutException ex) {
+                log.warn("Shard {} did not drain within 5 seconds", index);
+                disruptor.halt();
+            }
+        }
+    }
+
+    private static final class ShardAccount {
+
+        private final String accountNumber;
+        // Minor units available to debits, including reservations not yet committed; owning shard thread only
+        private long balance;
+        // Minor units after committed transfers only, what gets written back; guarded by writeBehindLock
+        private long committedBalance;
+
+        private ShardAccount(String accountNumber, long balance) {
+            this.accountNumber = accountNumber;
+            this.balance = balance;
+            this.committedBalance = balance;
+        }
+    }
+}
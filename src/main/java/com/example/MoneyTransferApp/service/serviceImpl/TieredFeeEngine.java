@@ -0,0 +1,90 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.AccountMetadata;
+import com.example.MoneyTransferApp.dto.FeeRuleSet;
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.enums.AccountClass;
+import com.example.MoneyTransferApp.service.FeeEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Charges fees from a {@link FeeSchedule}. Without {@code transfer.fee.rules-file} the schedule is
+ * the single percentage and cap from {@code transfer.fee.percentage} and {@code transfer.fee.cap}.
+ * With it, the JSON rule file is compiled at startup and polled for changes; a new schedule is
+ * swapped in through a volatile field, so transfers never wait on a reload and an invalid file
+ * leaves the previous rules in place.
+ */
+@Component
+@Slf4j
+public class TieredFeeEngine implements FeeEngine {
+
+    private final AccountMetadataCache accountMetadataCache;
+    private final ObjectMapper objectMapper;
+    private final Path rulesFile;
+    private volatile FeeSchedule schedule;
+    private FileTime loadedModifiedTime;
+
+    public TieredFeeEngine(AccountMetadataCache accountMetadataCache,
+                           ObjectMapper objectMapper,
+                           @Value("${transfer.fee.percentage}") String feePercentage,
+                           @Value("${transfer.fee.cap}") String feeCap,
+                           @Value("${transfer.fee.rules-file:}") String rulesFile) {
+        this.accountMetadataCache = accountMetadataCache;
+        this.objectMapper = objectMapper;
+        this.rulesFile = rulesFile.isBlank() ? null : Path.of(rulesFile);
+        try {
+            this.schedule = FeeSchedule.flat(feePercentage, feeCap);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid transfer fee configuration", ex);
+        }
+
+        if (this.rulesFile != null) {
+            try {
+                loadRules();
+            } catch (IOException | IllegalArgumentException ex) {
+                throw new IllegalStateException("Failed to load fee rules from " + rulesFile, ex);
+            }
+        }
+    }
+
+    @Override
+    public Money transactionFee(String sourceAccountNumber, Money amount) {
+        FeeSchedule current = schedule;
+        AccountClass accountClass = current.isAccountClassSensitive()
+                ? accountMetadataCache.find(sourceAccountNumber).map(AccountMetadata::accountClass).orElse(AccountClass.STANDARD)
+                : AccountClass.STANDARD;
+        return current.transactionFee(accountClass, amount);
+    }
+
+    @Scheduled(fixedDelayString = "${transfer.fee.rules-reload-interval-ms:5000}")
+    public void reloadRules() {
+        if (rulesFile == null) {
+            return;
+        }
+
+        try {
+            if (!Files.getLastModifiedTime(rulesFile).equals(loadedModifiedTime)) {
+                loadRules();
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            log.error("Keeping the current fee rules, failed to reload {}: {}", rulesFile, ex.getMessage());
+        }
+    }
+
+    private void loadRules() throws IOException {
+        FileTime modifiedTime = Files.getLastModifiedTime(rulesFile);
+        FeeRuleSet ruleSet = objectMapper.readValue(rulesFile.toFile(), FeeRuleSet.class);
+        schedule = FeeSchedule.compile(ruleSet.getTiers());
+        loadedModifiedTime = modifiedTime;
+        log.info("Loaded {} fee tiers from {}", schedule.getTierCount(), rulesFile);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.repository.TransactionArchiveJdbcRepository;
+import com.example.MoneyTransferApp.repository.TransactionArchiveJdbcRepository.ArchiveCandidate;
+import com.example.MoneyTransferApp.repository.TransactionPartitions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves finalized transactions older than {@code transfer.archive.retention-days} out of the hot
+ * table into per-month archive tables, oldest first, one committed chunk at a time. A run that
+ * dies halfway leaves every row in exactly one table and the next run carries on from there.
+ */
+@Component
+@Slf4j
+public class TransactionArchiver {
+
+    private final TransactionArchiveJdbcRepository transactionArchiveJdbcRepository;
+    private final TransactionPartitions transactionPartitions;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public TransactionArchiver(TransactionArchiveJdbcRepository transactionArchiveJdbcRepository,
+                               TransactionPartitions transactionPartitions,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${transfer.archive.retention-days:7}") int retentionDays,
+                               @Value("${transfer.archive.chunk-size:1000}") int chunkSize) {
+        this.transactionArchiveJdbcRepository = transactionArchiveJdbcRepository;
+        this.transactionPartitions = transactionPartitions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    public long run() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        long movedRows = 0;
+
+        while (true) {
+            List<ArchiveCandidate> candidates = transactionArchiveJdbcRepository.findArchiveCandidates(cutoff, chunkSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            Map<YearMonth, List<String>> idsByMonth = new LinkedHashMap<>();
+            for (ArchiveCandidate candidate : candidates) {
+                idsByMonth.computeIfAbsent(YearMonth.from(candidate.createdAt()), month -> new ArrayList<>())
+                        .add(candidate.id());
+            }
+            idsByMonth.keySet().forEach(transactionPartitions::ensurePartition);
+
+            Integer moved = transactionTemplate.execute(status -> {
+                int rows = 0;
+                for (Map.Entry<YearMonth, List<String>> entry : idsByMonth.entrySet()) {
+                    rows += transactionArchiveJdbcRepository.moveToArchive(
+                            TransactionPartitions.tableName(entry.getKey()), entry.getValue());
+                }
+                return rows;
+            });
+            movedRows += moved;
+            log.debug("Archived a chunk of {} transactions across {} months", moved, idsByMonth.size());
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("Archived {} transactions created before {}", movedRows, cutoff);
+        return movedRows;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Formats export rows straight from the JDBC result set into a reused buffer, so the per-row cost
+ * is the column reads and the characters written. Column order matches
+ * {@code TransactionExportJdbcRepository}.
+ */
+abstract class TransactionExportWriter {
+
+    static final String[] HEADERS = {"id", "reference", "sourceAccountNumber", "destinationAccountNumber", "amount",
+            "transactionFee", "billedAmount", "description", "status", "statusMessage", "commissionWorthy",
+            "commission", "createdAt"};
+
+    protected final Writer out;
+    protected final StringBuilder line = new StringBuilder(512);
+
+    protected TransactionExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    static TransactionExportWriter of(ExportFormat format, Writer out) {
+        return format == ExportFormat.CSV ? new Csv(out) : new Ndjson(out);
+    }
+
+    void writeHeader() throws IOException {
+    }
+
+    void writeRow(ResultSet rs) throws SQLException, IOException {
+        line.setLength(0);
+        for (int column = 1; column <= HEADERS.length; column++) {
+            appendValue(column, rs);
+        }
+        finishLine();
+        out.append(line);
+    }
+
+    protected abstract void appendValue(int column, ResultSet rs) throws SQLException;
+
+    protected abstract void finishLine();
+
+    protected static String plain(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    protected static String timestamp(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime().toString();
+    }
+
+    private static final class Csv extends TransactionExportWriter {
+
+        private Csv(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void writeHeader() throws IOException {
+            out.write(String.join(",", HEADERS));
+            out.write("\r\n");
+        }
+
+        @Override
+        protected void appendValue(int column, ResultSet rs) throws SQLException {
+            if (column > 1) {
+                line.append(',');
+            }
+            String value = switch (column) {
+                case 5, 6, 7, 12 -> plain(rs.getBigDecimal(column));
+                case 11 -> String.valueOf(rs.getBoolean(column));
+                case 13 -> timestamp(rs.getTimestamp(column));
+                default -> rs.getString(column);
+            };
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                line.append(value);
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    line.append('"');
+                }
+                line.append(c);
+            }
+            line.append('"');
+        }
+
+        @Override
+        protected void finishLine() {
+            line.append("\r\n");
+        }
+    }
+
+    private static final class Ndjson extends TransactionExportWriter {
+
+        private Ndjson(Writer out) {
+            super(out);
+        }
+
+        @Override
+        protected void appendValue(int column, ResultSet rs) throws SQLException {
+            line.append(column == 1 ? "{\"" : ",\"").append(HEADERS[column - 1]).append("\":");
+            switch (column) {
+                case 5, 6, 7, 12 -> appendRaw(plain(rs.getBigDecimal(column)));
+                case 11 -> line.append(rs.getBoolean(column));
+                case 13 -> appendString(timestamp(rs.getTimestamp(column)));
+                default -> appendString(rs.getString(column));
+            }
+        }
+
+        @Override
+        protected void finishLine() {
+            line.append("}\n");
+        }
+
+        private void appendRaw(String value) {
+            line.append(value == null ? "null" : value);
+        }
+
+        private void appendString(String value) {
+            if (value == null) {
+                line.append("null");
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> line.append("\\\"");
+                    case '\\' -> line.append("\\\\");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    case '\t' -> line.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            line.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            line.append(c);
+                        }
+                    }
+                }
+            }
+            line.append('"');
+        }
+    }
+}
@@ -1,305 +1,268 @@
 package com.example.MoneyTransferApp.service.serviceImpl;
 
+import com.example.MoneyTransferApp.dto.BatchTransferResponse;
+import com.example.MoneyTransferApp.dto.CursorPagedResponse;
+import com.example.MoneyTransferApp.dto.TransactionCursor;
 import com.example.MoneyTransferApp.dto.TransactionFilterRequest;
 import com.example.MoneyTransferApp.dto.TransactionResponse;
 import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
 import com.example.MoneyTransferApp.dto.TransferRequest;
-import com.example.MoneyTransferApp.entity.Account;
-import com.example.MoneyTransferApp.entity.Transaction;
-import com.example.MoneyTransferApp.entity.TransactionSummary;
-import com.example.MoneyTransferApp.enums.TransactionStatus;
-import com.example.MoneyTransferApp.exception.AccountNotFoundException;
-import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.enums.ExportFormat;
 import com.example.MoneyTransferApp.exception.InvalidTransactionException;
-import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.exception.TransactionNotFoundException;
+import com.example.MoneyTransferApp.repository.TransactionArchiveJdbcRepository;
+import com.example.MoneyTransferApp.repository.TransactionExportJdbcRepository;
 import com.example.MoneyTransferApp.repository.TransactionRepository;
-import com.example.MoneyTransferApp.repository.TransactionSummaryRepository;
 import com.example.MoneyTransferApp.service.TransactionService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
-    @Value("${transfer.fee.percentage}")
-    private String feePercentageStr;
-
-    @Value("${transfer.fee.cap}")
-    private String feeCapStr;
-
-    @Value("${transfer.commission.percentage}")
-    private String commissionPercentageStr;
-
     private final TransactionRepository transactionRepository;
-    private final AccountRepository accountRepository;
-    private final TransactionSummaryRepository transactionSummaryRepository;
+    private final TransferExecutor transferExecutor;
+    private final IdempotencyStore idempotencyStore;
+    private final LiveSummaryCounters liveSummaryCounters;
+    private final CommissionEngine commissionEngine;
+    private final AccountMetadataCache accountMetadataCache;
+    private final DailySummaryCache dailySummaryCache;
+    private final AsyncTransferQueue asyncTransferQueue;
+    private final TransferRetryExecutor transferRetryExecutor;
+    private final TransferMetrics transferMetrics;
+    private final TransactionExportJdbcRepository transactionExportJdbcRepository;
+    private final TransactionArchiveJdbcRepository transactionArchiveJdbcRepository;
+    private final TransactionArchiver transactionArchiver;
+    private final ColumnarTransactionArchive columnarTransactionArchive;
+
+    @Value("${transfer.export.fetch-size:1000}")
+    private int exportFetchSize;
 
-    @Transactional
     public TransactionResponse processTransfer(TransferRequest request) {
-        log.info("Processing transfer request: {}", request);
+        return processTransfer(request, null);
+    }
 
-        if (request.getSourceAccountNumber().equals(request.getDestinationAccountNumber())) {
-            throw new InvalidTransactionException("Source and destination accounts cannot be the same");
+    public TransactionResponse processTransfer(TransferRequest request, String idempotencyKey) {
+        log.info("Processing transfer request: {}", request);
+        long startedAt = System.nanoTime();
+        try {
+            validateTransfer(request);
+
+            TransactionResponse response;
+            if (idempotencyKey == null || idempotencyKey.isBlank()) {
+                response = transferRetryExecutor.execute("Transfer",
+                        () -> transferExecutor.executeTransfer(request, null, null));
+            } else {
+                response = idempotencyStore.execute(idempotencyKey, request,
+                        fingerprint -> transferRetryExecutor.execute("Transfer",
+                                () -> transferExecutor.executeTransfer(request, idempotencyKey, fingerprint)));
+            }
+            transferMetrics.recordTransfer("transfer", startedAt, response.getStatus());
+            return response;
+        } catch (RuntimeException ex) {
+            transferMetrics.recordFailure("transfer", startedAt, ex);
+            throw ex;
         }
+    }
 
-        String reference = UUID.randomUUID().toString();
-
-        Account source = accountRepository.findByAccountNumber(request.getSourceAccountNumber())
-                .orElseThrow(() -> new AccountNotFoundException("Source account not found"));
-
-        Account dest = accountRepository.findByAccountNumber(request.getDestinationAccountNumber())
-                .orElseThrow(() -> new AccountNotFoundException("Destination account not found"));
-
-        BigDecimal transactionFee = calculateTransactionFee(request.getAmount());
-        BigDecimal billedAmount = request.getAmount().add(transactionFee);
-
-        if (source.getBalance().compareTo(billedAmount) < 0) {
-            log.warn("Insufficient funds in account {}. Required: {}, Available: {}",
-                    source.getAccountNumber(), billedAmount, source.getBalance());
-            throw new InsufficientFundsException("Insufficient funds");
+    public TransactionResponse submitTransfer(TransferRequest request, String idempotencyKey) {
+        log.info("Queueing transfer request: {}", request);
+        long startedAt = System.nanoTime();
+        try {
+            validateTransfer(request);
+
+            TransactionResponse response;
+            if (idempotencyKey == null || idempotencyKey.isBlank()) {
+                response = asyncTransferQueue.submit(request, null, null);
+            } else {
+                response = idempotencyStore.execute(idempotencyKey, request,
+                        fingerprint -> asyncTransferQueue.submit(request, idempotencyKey, fingerprint));
+            }
+            transferMetrics.recordTransfer("submit", startedAt, response.getStatus());
+            return response;
+        } catch (RuntimeException ex) {
+            transferMetrics.recordFailure("submit", startedAt, ex);
+            throw ex;
         }
+    }
 
-        Transaction transaction = buildInitialTransaction(request, reference, transactionFee, billedAmount);
-        transaction.setStatus(TransactionStatus.PROCESSING);
-        transaction.setStatusMessage("Transaction is being processed");
-
-        transaction = transactionRepository.save(transaction);
+    @Transactional(readOnly = true)
+    public TransactionResponse getTransaction(String reference) {
+        return transactionRepository.findByReference(reference)
+                .map(TransactionResponse::fromTransaction)
+                .or(() -> transactionArchiveJdbcRepository.findByReference(reference))
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction not found"));
+    }
 
+    public BatchTransferResponse processTransfers(List<TransferRequest> requests) {
+        log.info("Processing batch of {} transfer requests", requests.size());
+        long startedAt = System.nanoTime();
         try {
-            BigDecimal newSourceBalance = source.getBalance().subtract(billedAmount);
-            source.setBalance(newSourceBalance);
-            accountRepository.save(source);
-            log.info("Debited source account {} with total {} (amount {} + fee {})",
-                    source.getAccountNumber(), billedAmount, request.getAmount(), transactionFee);
-
-            BigDecimal newDestBalance = dest.getBalance().add(request.getAmount());
-            dest.setBalance(newDestBalance);
-            accountRepository.save(dest);
-            log.info("Credited destination account {} with amount {}", dest.getAccountNumber(), request.getAmount());
-
-            transaction.setStatus(TransactionStatus.SUCCESSFUL);
-            transaction.setStatusMessage("Transfer completed successfully");
-
-        } catch (Exception ex) {
-            log.error("Transfer failed during processing: {}", ex.getMessage(), ex);
-            transaction.setStatus(TransactionStatus.FAILED);
-            transaction.setStatusMessage("Processing error: " + ex.getMessage());
+            BatchTransferResponse response = transferRetryExecutor.execute("Batch transfer",
+                    () -> transferExecutor.executeBatch(requests));
+            // A batch has no single outcome; each item is counted by its own status instead
+            transferMetrics.recordTransfer("batch", startedAt);
+            response.getResults().forEach(result -> transferMetrics.recordPosting(result.getStatus()));
+            return response;
+        } catch (RuntimeException ex) {
+            transferMetrics.recordFailure("batch", startedAt, ex);
+            throw ex;
         }
-
-        return saveAndReturnResponse(transaction);
     }
 
+    @Transactional(readOnly = true)
     public Page<TransactionResponse> getTransactionsWithFilters(TransactionFilterRequest filterRequest) {
-        Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getSize(), Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getSize());
 
-        Page<Transaction> transactionPage = transactionRepository.findTransactionsWithFilters(
+        return transactionRepository.findTransactionResponsesWithFilters(
                 filterRequest.getStatus(),
                 filterRequest.getAccountNumber(),
                 filterRequest.getStartDate(),
                 filterRequest.getEndDate(),
                 pageable
         );
-
-        return transactionPage.map(TransactionResponse::fromTransaction);
     }
 
-    @Transactional
-    public void updateCommissionWorthy() {
-        log.info("Starting scheduled job to update commission worthy transactions");
-
-        List<Transaction> successfulTransactions = transactionRepository.findSuccessfulTransactionsWithoutCommission();
-        BigDecimal totalCommission = BigDecimal.ZERO;
-        BigDecimal commissionPercentage = new BigDecimal(commissionPercentageStr);
-
-        for (Transaction transaction : successfulTransactions) {
-            BigDecimal commission = transaction.getTransactionFee()
-                    .multiply(commissionPercentage)
-                    .setScale(2, RoundingMode.HALF_UP);
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<TransactionResponse> getTransactionsAfterCursor(TransactionFilterRequest filterRequest) {
+        TransactionCursor cursor = filterRequest.getCursor() == null || filterRequest.getCursor().isEmpty()
+                ? null
+                : TransactionCursor.decode(filterRequest.getCursor());
 
-            transaction.setCommissionWorthy(true);
-            transaction.setCommission(commission);
+        Slice<TransactionResponse> transactionSlice = transactionRepository.findTransactionResponsesWithFiltersAfter(
+                filterRequest.getStatus(),
+                filterRequest.getAccountNumber(),
+                filterRequest.getStartDate(),
+                filterRequest.getEndDate(),
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.id() : null,
+                PageRequest.of(0, filterRequest.getSize())
+        );
 
-            totalCommission = totalCommission.add(commission);
-            transactionRepository.save(transaction);
+        List<TransactionResponse> transactions = transactionSlice.getContent();
+        CursorPagedResponse<TransactionResponse> response = new CursorPagedResponse<>();
+        response.setContent(transactions);
+        response.setSize(filterRequest.getSize());
+        response.setNumberOfElements(transactions.size());
+        response.setHasNext(transactionSlice.hasNext());
+        if (transactionSlice.hasNext()) {
+            TransactionResponse last = transactions.get(transactions.size() - 1);
+            response.setNextCursor(new TransactionCursor(last.getCreatedAt(), last.getId()).encode());
         }
-
-        log.info("Updated {} transactions as commission worthy with total commission of {}",
-                successfulTransactions.size(), totalCommission);
+        if (filterRequest.isIncludeTotal()) {
+            response.setTotalElements(transactionRepository.countTransactionsWithFilters(
+                    filterRequest.getStatus(),
+                    filterRequest.getAccountNumber(),
+                    filterRequest.getStartDate(),
+                    filterRequest.getEndDate()));
+        }
+        return response;
     }
 
-    public TransactionSummaryResponse getTransactionSummary(LocalDate date) {
-        Optional<TransactionSummary> existingSummary = transactionSummaryRepository.findByDate(date);
-
-        if (existingSummary.isPresent()) {
-            return TransactionSummaryResponse.fromTransactionSummary(existingSummary.get());
+    /**
+     * Streams every matching transaction to the output, oldest first, holding one row at a time.
+     */
+    @Transactional(readOnly = true)
+    public long exportTransactions(TransactionFilterRequest filterRequest, ExportFormat format,
+                                   OutputStream outputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        TransactionExportWriter exportWriter = TransactionExportWriter.of(format, writer);
+        long[] rows = new long[1];
+
+        exportWriter.writeHeader();
+        try {
+            transactionExportJdbcRepository.streamTransactions(
+                    filterRequest.getStatus(),
+                    filterRequest.getAccountNumber(),
+                    filterRequest.getStartDate(),
+                    filterRequest.getEndDate(),
+                    exportFetchSize,
+                    rs -> {
+                        try {
+                            exportWriter.writeRow(rs);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                        rows[0]++;
+                    });
+        } catch (UncheckedIOException ex) {
+            // Usually the client went away; stop reading instead of draining the cursor
+            throw ex.getCause();
         }
+        writer.flush();
 
-        return generateTransactionSummary(date);
+        transferMetrics.recordJob("export", startedAt, rows[0]);
+        log.info("Exported {} transactions as {}", rows[0], format);
+        return rows[0];
     }
 
-    @Transactional
-    public TransactionSummaryResponse generateTransactionSummary(LocalDate date) {
-        log.info("Generating transaction summary for date: {}", date);
-
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-        List<Transaction> transactions = transactionRepository.findByCreatedAtBetween(startOfDay, endOfDay);
-
-        TransactionSummary summary = buildTransactionSummary(date, transactions);
-        TransactionSummary savedSummary = transactionSummaryRepository.save(summary);
-
-        return TransactionSummaryResponse.fromTransactionSummary(savedSummary);
+    public void updateCommissionWorthy() {
+        log.info("Starting scheduled job to update commission worthy transactions");
+        long startedAt = System.nanoTime();
+        long updatedRows = commissionEngine.run();
+        transferMetrics.recordJob("commission", startedAt, updatedRows);
     }
 
-    private BigDecimal calculateTransactionFee(BigDecimal amount) {
-        BigDecimal feePercentage = new BigDecimal(feePercentageStr);
-        BigDecimal feeCap = new BigDecimal(feeCapStr);
-
-        BigDecimal fee = amount.multiply(feePercentage).setScale(2, RoundingMode.HALF_UP);
-        return fee.compareTo(feeCap) > 0 ? feeCap : fee;
+    public void archiveTransactions() {
+        log.info("Starting scheduled job to archive finalized transactions");
+        long startedAt = System.nanoTime();
+        long archivedRows = transactionArchiver.run();
+        transferMetrics.recordJob("archive", startedAt, archivedRows);
     }
 
-    private Transaction buildInitialTransaction(TransferRequest request, String reference,
-                                                BigDecimal transactionFee, BigDecimal billedAmount) {
-        return Transaction.builder()
-                .reference(reference)
-                .sourceAccountNumber(request.getSourceAccountNumber())
-                .destinationAccountNumber(request.getDestinationAccountNumber())
-                .amount(request.getAmount())
-                .transactionFee(transactionFee)
-                .billedAmount(billedAmount)
-                .description(request.getDescription())
-                .status(TransactionStatus.PENDING)
-                .commissionWorthy(false)
-                .commission(BigDecimal.ZERO)
-                .build();
+    public void writeColumnarDay(LocalDate date) {
+        log.info("Writing columnar transaction file for date: {}", date);
+        long startedAt = System.nanoTime();
+        int rows = columnarTransactionArchive.writeDay(date);
+        transferMetrics.recordJob("columnar", startedAt, rows);
     }
 
-    private TransactionResponse handleAccountValidationFailure(Transaction transaction,
-                                                               Optional<Account> sourceAccountOpt,
-                                                               Optional<Account> destinationAccountOpt) {
-        if (sourceAccountOpt.isEmpty()) {
-            transaction.setStatus(TransactionStatus.FAILED);
-            transaction.setStatusMessage("Source account not found");
-        } else {
-            transaction.setStatus(TransactionStatus.FAILED);
-            transaction.setStatusMessage("Destination account not found");
+    public TransactionSummaryResponse getTransactionSummary(LocalDate date) {
+        TransactionSummaryResponse liveSummary = liveSummaryCounters.snapshot(date);
+        if (liveSummary != null) {
+            return liveSummary;
         }
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        log.warn("Account validation failed for transaction: {}", savedTransaction.getReference());
-        return TransactionResponse.fromTransaction(savedTransaction);
-    }
-
-    private TransactionResponse handleInsufficientFunds(Transaction transaction) {
-        transaction.setStatus(TransactionStatus.INSUFFICIENT_FUNDS);
-        transaction.setStatusMessage("Insufficient funds in source account");
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        log.warn("Insufficient funds for transaction: {}", savedTransaction.getReference());
-        return TransactionResponse.fromTransaction(savedTransaction);
-    }
-
-    private void processAccountBalances(Account sourceAccount, Account destinationAccount,
-                                        BigDecimal billedAmount, BigDecimal transferAmount) {
-
-        BigDecimal sourceBalance = sourceAccount.getBalance().subtract(billedAmount);
-        sourceAccount.setBalance(sourceBalance);
-        accountRepository.save(sourceAccount);
-        log.info("Updated source account {} balance to {}", sourceAccount.getAccountNumber(), sourceBalance);
-
 
-        BigDecimal destinationBalance = destinationAccount.getBalance().add(transferAmount);
-        destinationAccount.setBalance(destinationBalance);
-        accountRepository.save(destinationAccount);
-        log.info("Updated destination account {} balance to {}", destinationAccount.getAccountNumber(), destinationBalance);
-    }
-
-    private TransactionResponse saveAndReturnResponse(Transaction transaction) {
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        log.info("Saved transaction with reference: {}, status: {}", savedTransaction.getReference(), savedTransaction.getStatus());
-        return TransactionResponse.fromTransaction(savedTransaction);
-    }
-
-    private void updateTransactionCommission(Transaction transaction) {
-        if (transaction.isCommissionWorthy()) {
-            log.debug("Transaction {} is already commission worthy, skipping", transaction.getReference());
-            return;
+        // Days still taking transfers are summarized on the fly; caching them would freeze a partial total
+        if (!date.isBefore(LocalDate.now())) {
+            return TransactionSummaryResponse.fromTransactionSummary(dailySummaryCache.build(date));
         }
 
-        BigDecimal commissionPercentage = new BigDecimal(commissionPercentageStr);
-        BigDecimal commission = transaction.getTransactionFee()
-                .multiply(commissionPercentage)
-                .setScale(2, RoundingMode.HALF_UP);
-
-        transaction.setCommissionWorthy(true);
-        transaction.setCommission(commission);
-
-        transactionRepository.save(transaction);
-        log.debug("Updated transaction {} with commission {}", transaction.getReference(), commission);
+        return dailySummaryCache.get(date);
     }
 
-    private TransactionSummary buildTransactionSummary(LocalDate date, List<Transaction> transactions) {
-        long totalTransactions = transactions.size();
-        long successfulTransactions = countSuccessfulTransactions(transactions);
-        long failedTransactions = totalTransactions - successfulTransactions;
-
-        BigDecimal totalAmount = calculateTotalAmount(transactions);
-        BigDecimal totalFees = calculateTotalFees(transactions);
-        BigDecimal totalCommission = calculateTotalCommission(transactions);
-
-        return TransactionSummary.builder()
-                .date(date)
-                .totalTransactions(totalTransactions)
-                .successfulTransactions(successfulTransactions)
-                .failedTransactions(failedTransactions)
-                .totalAmount(totalAmount)
-                .totalFees(totalFees)
-                .totalCommission(totalCommission)
-                .build();
-    }
-
-    private long countSuccessfulTransactions(List<Transaction> transactions) {
-        return transactions.stream()
-                .filter(t -> t.getStatus() == TransactionStatus.SUCCESSFUL)
-                .count();
-    }
-
-    private BigDecimal calculateTotalAmount(List<Transaction> transactions) {
-        return transactions.stream()
-                .filter(t -> t.getStatus() == TransactionStatus.SUCCESSFUL)
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public TransactionSummaryResponse generateTransactionSummary(LocalDate date) {
+        long startedAt = System.nanoTime();
+        TransactionSummaryResponse summary = dailySummaryCache.refresh(date);
+        transferMetrics.recordJob("summary", startedAt, summary.getTotalTransactions());
+        return summary;
     }
 
-    private BigDecimal calculateTotalFees(List<Transaction> transactions) {
-        return transactions.stream()
-                .filter(t -> t.getStatus() == TransactionStatus.SUCCESSFUL)
-                .map(Transaction::getTransactionFee)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
+    private void validateTransfer(TransferRequest request) {
+        if (request.getSourceAccountNumber().equals(request.getDestinationAccountNumber())) {
+            throw new InvalidTransactionException("Source and destination accounts cannot be the same");
+        }
 
-    private BigDecimal calculateTotalCommission(List<Transaction> transactions) {
-        return transactions.stream()
-                .filter(Transaction::isCommissionWorthy)
-                .map(Transaction::getCommission)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        accountMetadataCache.require(request.getSourceAccountNumber(), "Source account not found");
+        accountMetadataCache.require(request.getDestinationAccountNumber(), "Destination account not found");
     }
-}
\ No newline at end of file
+}
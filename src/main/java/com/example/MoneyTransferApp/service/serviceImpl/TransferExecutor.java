@@ -0,0 +1,345 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.dto.BatchTransferResponse;
+import com.example.MoneyTransferApp.dto.BatchTransferResult;
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferPosting;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.IdempotencyRecord;
+import com.example.MoneyTransferApp.entity.LedgerEntry;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.enums.LedgerEntryType;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.IdempotencyRecordRepository;
+import com.example.MoneyTransferApp.repository.LedgerEntryJdbcRepository;
+import com.example.MoneyTransferApp.repository.TransactionJdbcRepository;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.service.FeeEngine;
+import com.example.MoneyTransferApp.service.TransferEngine;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Owns the database transaction of a transfer. Callers in {@link TransactionServiceImpl} stay
+ * outside of it so they can do work that must not hold a connection or row locks. Every applied
+ * posting is also written to the ledger as a debit and a credit entry in the same transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransferExecutor {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final LedgerEntryJdbcRepository ledgerEntryJdbcRepository;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransferEngine transferEngine;
+    private final FeeEngine feeEngine;
+    private final Validator validator;
+    private final LiveSummaryCounters liveSummaryCounters;
+    private final AccountMetadataCache accountMetadataCache;
+    private final TransferMetrics transferMetrics;
+
+    @Transactional
+    public TransactionResponse executeTransfer(TransferRequest request, String idempotencyKey, String requestFingerprint) {
+        String transactionId = UUID.randomUUID().toString();
+
+        Money amount = Money.of(request.getAmount());
+        Money transactionFee = feeEngine.transactionFee(request.getSourceAccountNumber(), amount);
+        Money billedAmount = amount.plus(transactionFee);
+
+        TransferPosting posting = transferEngine.applyTransfer(request.getSourceAccountNumber(),
+                request.getDestinationAccountNumber(), amount, billedAmount);
+        posting.setTransactionId(transactionId);
+        List<LedgerEntry> ledgerEntries = new ArrayList<>(2);
+        addLedgerEntries(ledgerEntries, posting, LocalDateTime.now());
+
+        Transaction transaction = buildTransaction(request, transactionId, transactionFee, billedAmount);
+        transaction.setStatus(TransactionStatus.SUCCESSFUL);
+        transaction.setStatusMessage("Transfer completed successfully");
+
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        recordIdempotencyKey(idempotencyKey, requestFingerprint, savedTransaction);
+        ledgerEntryJdbcRepository.insertAll(ledgerEntries);
+        transferMetrics.timeCommit();
+
+        liveSummaryCounters.recordOnCommit(savedTransaction.getCreatedAt(), savedTransaction.getStatus(),
+                amount, transactionFee);
+
+        log.info("Saved transaction with reference: {}, status: {}", savedTransaction.getReference(), savedTransaction.getStatus());
+        return TransactionResponse.fromTransaction(savedTransaction);
+    }
+
+    /**
+     * Applies a batch in one transaction. Every item that carries a request is stored in the same
+     * insert whatever its outcome, FAILED and INSUFFICIENT_FUNDS included, as the single and queued
+     * paths do; only a missing item has nothing to store.
+     */
+    @Transactional
+    public BatchTransferResponse executeBatch(List<TransferRequest> requests) {
+        BatchTransferResult[] results = new BatchTransferResult[requests.size()];
+        List<TransferPosting> postings = new ArrayList<>(requests.size());
+        List<Integer> postingIndexes = new ArrayList<>(requests.size());
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TransferRequest request = requests.get(i);
+            String rejection = validateBatchItem(request);
+            if (rejection != null) {
+                BatchTransferResult.BatchTransferResultBuilder result = BatchTransferResult.builder()
+                        .index(i)
+                        .status(TransactionStatus.FAILED)
+                        .statusMessage(rejection);
+                if (request != null) {
+                    Transaction transaction = buildRejectedTransaction(request, rejection, now);
+                    transactions.add(transaction);
+                    liveSummaryCounters.recordOnCommit(now, TransactionStatus.FAILED, Money.ZERO, Money.ZERO);
+                    result.id(transaction.getId()).reference(transaction.getReference());
+                }
+                results[i] = result.build();
+                continue;
+            }
+
+            Money amount = Money.of(request.getAmount());
+            TransferPosting posting = new TransferPosting(request.getSourceAccountNumber(),
+                    request.getDestinationAccountNumber(), amount,
+                    amount.plus(feeEngine.transactionFee(request.getSourceAccountNumber(), amount)));
+            posting.setTransactionId(UUID.randomUUID().toString());
+            postings.add(posting);
+            postingIndexes.add(i);
+        }
+
+        transferEngine.applyTransfers(postings);
+
+        int successful = 0;
+        List<LedgerEntry> ledgerEntries = new ArrayList<>(postings.size() * 2);
+        for (int p = 0; p < postings.size(); p++) {
+            TransferPosting posting = postings.get(p);
+            int index = postingIndexes.get(p);
+            Money transactionFee = posting.getBilledAmount().minus(posting.getAmount());
+            BatchTransferResult.BatchTransferResultBuilder result = BatchTransferResult.builder()
+                    .index(index)
+                    .status(posting.getStatus())
+                    .statusMessage(posting.getStatusMessage())
+                    .transactionFee(transactionFee.toBigDecimal())
+                    .billedAmount(posting.getBilledAmount().toBigDecimal());
+
+            Transaction transaction = buildTransaction(requests.get(index), posting.getTransactionId(),
+                    transactionFee, posting.getBilledAmount());
+            transaction.setStatus(posting.getStatus());
+            transaction.setStatusMessage(posting.getStatusMessage());
+            transaction.setCreatedAt(now);
+            transaction.setUpdatedAt(now);
+            transactions.add(transaction);
+            if (posting.isSuccessful()) {
+                addLedgerEntries(ledgerEntries, posting, now);
+                successful++;
+            }
+            liveSummaryCounters.recordOnCommit(now, posting.getStatus(), posting.getAmount(), transactionFee);
+            results[index] = result.id(transaction.getId()).reference(transaction.getReference()).build();
+        }
+
+        transactionJdbcRepository.insertAll(transactions);
+        ledgerEntryJdbcRepository.insertAll(ledgerEntries);
+        transferMetrics.timeCommit();
+
+        log.info("Batch completed: {} of {} transfers successful", successful, requests.size());
+        return BatchTransferResponse.builder()
+                .totalTransfers(requests.size())
+                .successfulTransfers(successful)
+                .failedTransfers(requests.size() - successful)
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * Stores a transfer as PENDING with its fee already worked out, leaving the balances to
+     * {@link #completePending}.
+     */
+    @Transactional
+    public TransactionResponse submitPending(TransferRequest request, String idempotencyKey, String requestFingerprint) {
+        Money amount = Money.of(request.getAmount());
+        Money transactionFee = feeEngine.transactionFee(request.getSourceAccountNumber(), amount);
+
+        Transaction transaction = buildTransaction(request, UUID.randomUUID().toString(),
+                transactionFee, amount.plus(transactionFee));
+        transaction.setStatusMessage("Transfer queued for processing");
+
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        recordIdempotencyKey(idempotencyKey, requestFingerprint, savedTransaction);
+
+        log.info("Queued transaction with reference: {}", savedTransaction.getReference());
+        return TransactionResponse.fromTransaction(savedTransaction);
+    }
+
+    /**
+     * Applies the given PENDING transfers as one batch. The rows are locked first, so a transfer
+     * that is picked up twice is only applied by whoever gets to it while it is still PENDING.
+     */
+    @Transactional
+    public int completePending(List<String> transactionIds) {
+        List<Transaction> transactions = transactionRepository.findByIdInAndStatusForUpdate(
+                transactionIds, TransactionStatus.PENDING);
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+
+        List<TransferPosting> postings = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            TransferPosting posting = new TransferPosting(transaction.getSourceAccountNumber(),
+                    transaction.getDestinationAccountNumber(), Money.of(transaction.getAmount()),
+                    Money.of(transaction.getBilledAmount()));
+            posting.setTransactionId(transaction.getId());
+            postings.add(posting);
+        }
+
+        transferEngine.applyTransfers(postings);
+        LocalDateTime now = LocalDateTime.now();
+        List<LedgerEntry> ledgerEntries = new ArrayList<>(postings.size() * 2);
+
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            TransferPosting posting = postings.get(i);
+            transaction.setStatus(posting.getStatus());
+            transaction.setStatusMessage(posting.getStatusMessage());
+            transferMetrics.recordPosting(posting.getStatus());
+            if (posting.isSuccessful()) {
+                addLedgerEntries(ledgerEntries, posting, now);
+            }
+            // Every outcome is a row in the day's aggregate, so the live counters take rejected ones too
+            liveSummaryCounters.recordOnCommit(transaction.getCreatedAt(), posting.getStatus(),
+                    posting.getAmount(), posting.getBilledAmount().minus(posting.getAmount()));
+        }
+        transactionRepository.saveAll(transactions);
+        ledgerEntryJdbcRepository.insertAll(ledgerEntries);
+        transferMetrics.timeCommit();
+        return transactions.size();
+    }
+
+    /**
+     * Marks a transfer FAILED if it is still PENDING. The row is loaded rather than updated blindly
+     * so its creation day is known to the live counters.
+     */
+    @Transactional
+    public void failPending(String transactionId, String statusMessage) {
+        List<Transaction> transactions = transactionRepository.findByIdInAndStatusForUpdate(
+                List.of(transactionId), TransactionStatus.PENDING);
+        for (Transaction transaction : transactions) {
+            transaction.setStatus(TransactionStatus.FAILED);
+            transaction.setStatusMessage(statusMessage);
+            liveSummaryCounters.recordOnCommit(transaction.getCreatedAt(), TransactionStatus.FAILED,
+                    Money.of(transaction.getAmount()), Money.of(transaction.getTransactionFee()));
+        }
+        transactionRepository.saveAll(transactions);
+    }
+
+    // A side without a balance gets its entry from the engine once the transfer settles
+    private void addLedgerEntries(List<LedgerEntry> entries, TransferPosting posting, LocalDateTime postedAt) {
+        if (posting.getSourceBalanceAfter() != null) {
+            entries.add(LedgerEntry.builder()
+                    .accountNumber(posting.getSourceAccountNumber())
+                    .transactionId(posting.getTransactionId())
+                    .entryType(LedgerEntryType.DEBIT)
+                    .amount(posting.getBilledAmount().toBigDecimal())
+                    .balanceAfter(posting.getSourceBalanceAfter().toBigDecimal())
+                    .postedAt(postedAt)
+                    .build());
+        }
+        if (posting.getDestinationBalanceAfter() != null) {
+            entries.add(LedgerEntry.builder()
+                    .accountNumber(posting.getDestinationAccountNumber())
+                    .transactionId(posting.getTransactionId())
+                    .entryType(LedgerEntryType.CREDIT)
+                    .amount(posting.getAmount().toBigDecimal())
+                    .balanceAfter(posting.getDestinationBalanceAfter().toBigDecimal())
+                    .postedAt(postedAt)
+                    .build());
+        }
+    }
+
+    private void recordIdempotencyKey(String idempotencyKey, String requestFingerprint, Transaction transaction) {
+        if (idempotencyKey != null) {
+            idempotencyRecordRepository.save(IdempotencyRecord.builder()
+                    .idempotencyKey(idempotencyKey)
+                    .requestFingerprint(requestFingerprint)
+                    .transactionId(transaction.getId())
+                    .build());
+        }
+    }
+
+    private String validateBatchItem(TransferRequest request) {
+        if (request == null) {
+            return "Transfer request is required";
+        }
+
+        Set<ConstraintViolation<TransferRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            StringBuilder message = new StringBuilder("Validation failed: ");
+            for (ConstraintViolation<TransferRequest> violation : violations) {
+                message.append(violation.getPropertyPath()).append(" - ").append(violation.getMessage()).append("; ");
+            }
+            return message.toString();
+        }
+
+        if (request.getSourceAccountNumber().equals(request.getDestinationAccountNumber())) {
+            return "Source and destination accounts cannot be the same";
+        }
+        if (accountMetadataCache.find(request.getSourceAccountNumber()).isEmpty()) {
+            return "Source account not found";
+        }
+        if (accountMetadataCache.find(request.getDestinationAccountNumber()).isEmpty()) {
+            return "Destination account not found";
+        }
+        return null;
+    }
+
+    // No fee is worked out for a request that failed validation, and its description may be what failed
+    private Transaction buildRejectedTransaction(TransferRequest request, String statusMessage, LocalDateTime now) {
+        String transactionId = UUID.randomUUID().toString();
+        return Transaction.builder()
+                .id(transactionId)
+                .reference(transactionId)
+                .sourceAccountNumber(request.getSourceAccountNumber())
+                .destinationAccountNumber(request.getDestinationAccountNumber())
+                .amount(request.getAmount())
+                .transactionFee(BigDecimal.ZERO)
+                .billedAmount(request.getAmount())
+                .status(TransactionStatus.FAILED)
+                .statusMessage(statusMessage)
+                .commissionWorthy(false)
+                .commission(BigDecimal.ZERO)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private Transaction buildTransaction(TransferRequest request, String transactionId,
+                                         Money transactionFee, Money billedAmount) {
+        return Transaction.builder()
+                .id(transactionId)
+                .reference(transactionId)
+                .sourceAccountNumber(request.getSourceAccountNumber())
+                .destinationAccountNumber(request.getDestinationAccountNumber())
+                .amount(request.getAmount())
+                .transactionFee(transactionFee.toBigDecimal())
+                .billedAmount(billedAmount.toBigDecimal())
+                .description(request.getDescription())
+                .status(TransactionStatus.PENDING)
+                .commissionWorthy(false)
+                .commission(BigDecimal.ZERO)
+                .build();
+    }
+}
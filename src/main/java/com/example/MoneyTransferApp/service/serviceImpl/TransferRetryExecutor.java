@@ -0,0 +1,154 @@
+package com.example.MoneyTransferApp.service.serviceImpl;
+
+import com.example.MoneyTransferApp.exception.TransferContentionException;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs a whole transfer transaction again when it lost a deadlock, timed out waiting for a row
+ * lock or failed serialization, including failures that only show up at commit. Attempts are
+ * spaced with full-jitter exponential backoff so the competing transactions do not collide again
+ * in lock step.
+ * <p>
+ * Retries draw on a shared budget that every call tops up by {@code transfer.retry.budget-ratio}
+ * of a retry, so under sustained contention retries stay a bounded fraction of the traffic instead
+ * of multiplying it. When the attempts or the budget run out the caller gets a
+ * {@link TransferContentionException}, answered with 503 and Retry-After.
+ */
+@Component
+@Slf4j
+public class TransferRetryExecutor {
+
+    // Serialization failure, PostgreSQL deadlock, H2 lock timeout. MySQL reports its lock wait timeout
+    // as HY000, so that one is left to Spring's translation into a PessimisticLockingFailureException
+    private static final Set<String> RETRYABLE_SQL_STATES = Set.of("40001", "40P01", "HYT00");
+    private static final long TOKEN = 1_000;
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long tokensPerCall;
+    private final long maxTokens;
+    private final AtomicLong budget;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetRejections = new LongAdder();
+
+    public TransferRetryExecutor(@Value("${transfer.retry.max-attempts:4}") int maxAttempts,
+                                 @Value("${transfer.retry.initial-backoff-ms:5}") long initialBackoffMs,
+                                 @Value("${transfer.retry.max-backoff-ms:200}") long maxBackoffMs,
+                                 @Value("${transfer.retry.budget-ratio:0.2}") double budgetRatio,
+                                 @Value("${transfer.retry.budget-max:100}") int budgetMax) {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.tokensPerCall = Math.round(budgetRatio * TOKEN);
+        this.maxTokens = budgetMax * TOKEN;
+        this.budget = new AtomicLong(maxTokens);
+    }
+
+    public <T> T execute(String operation, Supplier<T> transaction) {
+        calls.increment();
+        deposit();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transaction.get();
+                if (attempt > 1) {
+                    recovered.increment();
+                }
+                return result;
+            } catch (RuntimeException ex) {
+                if (!isRetryable(ex)) {
+                    throw ex;
+                }
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("{} still contended after {} attempts: {}", operation, attempt, ex.getMessage());
+                    throw new TransferContentionException("Transfer could not be completed due to contention, retry later", ex);
+                }
+                if (!withdraw()) {
+                    budgetRejections.increment();
+                    log.warn("{} hit contention and the retry budget is spent: {}", operation, ex.getMessage());
+                    throw new TransferContentionException("Transfer could not be completed due to contention, retry later", ex);
+                }
+
+                retries.increment();
+                long backoffMs = backoff(attempt);
+                log.debug("{} attempt {} lost on contention, retrying in {} ms: {}", operation, attempt, backoffMs, ex.getMessage());
+                sleep(backoffMs);
+            }
+        }
+    }
+
+    public RetryStats getStats() {
+        return new RetryStats(calls.sum(), retries.sum(), recovered.sum(), exhausted.sum(),
+                budgetRejections.sum(), budget.get() / TOKEN);
+    }
+
+    static boolean isRetryable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyFailureException
+                    || cause instanceof PessimisticLockException
+                    || cause instanceof LockTimeoutException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && RETRYABLE_SQL_STATES.contains(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(tokensPerCall, (current, add) -> Math.min(current + add, maxTokens));
+    }
+
+    private boolean withdraw() {
+        while (true) {
+            long current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long backoffMs) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TransferContentionException("Interrupted while waiting to retry the transfer", ex);
+        }
+    }
+
+    public record RetryStats(long calls, long retries, long recovered, long exhausted,
+                             long budgetRejections, long remainingBudget) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.Account;
+import com.example.MoneyTransferApp.enums.AccountClass;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.AccountMetadataCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:accountMetadataCacheTest")
+public class AccountMetadataCacheIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountMetadataCache accountMetadataCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private AccountRepository accountRepository;
+
+    @Test
+    void looksUpUnknownAccountsOnceAndRemembersTheMiss() {
+        clearInvocations(accountRepository);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000001", "9999999999", "10.00")))
+                    .isInstanceOf(AccountNotFoundException.class)
+                    .hasMessage("Destination account not found");
+        }
+
+        verify(accountRepository, never()).findByAccountNumber(anyString());
+        verify(accountRepository, times(1)).findMetadataByAccountNumber("9999999999");
+    }
+
+    @Test
+    void findsAccountsInsertedWithPlainSql() {
+        jdbcTemplate.update("INSERT INTO accounts (account_number, account_name, balance, account_class) " +
+                "VALUES ('1000000077', 'Migrated Account', 5.00, 'STANDARD')");
+
+        assertThat(accountMetadataCache.find("1000000077")).isPresent();
+    }
+
+    @Test
+    void servesRepeatLookupsFromTheCacheAndFollowsAccountChanges() {
+        accountMetadataCache.find("1000000002");
+        clearInvocations(accountRepository);
+        accountMetadataCache.find("1000000002");
+        verify(accountRepository, never()).findMetadataByAccountNumber("1000000002");
+
+        assertThat(accountMetadataCache.find("1000000099")).isEmpty();
+        Account account = accountRepository.save(Account.builder()
+                .accountNumber("1000000099")
+                .accountName("New Account")
+                .balance(new BigDecimal("10.00"))
+                .build());
+        assertThat(accountMetadataCache.find("1000000099")).hasValueSatisfying(metadata ->
+                assertThat(metadata.accountClass()).isEqualTo(AccountClass.STANDARD));
+
+        account.setAccountClass(AccountClass.PREMIUM);
+        accountRepository.save(account);
+        assertThat(accountMetadataCache.find("1000000099")).hasValueSatisfying(metadata ->
+                assertThat(metadata.accountClass()).isEqualTo(AccountClass.PREMIUM));
+
+        clearInvocations(accountRepository);
+        account.setBalance(new BigDecimal("20.00"));
+        accountRepository.save(account);
+        accountMetadataCache.find("1000000099");
+        verify(accountRepository, never()).findMetadataByAccountNumber("1000000099");
+    }
+
+    private static TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
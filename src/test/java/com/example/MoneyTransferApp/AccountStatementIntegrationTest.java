@@ -0,0 +1,76 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.CursorPagedResponse;
+import com.example.MoneyTransferApp.dto.LedgerEntryResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.enums.LedgerEntryType;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.AccountStatementService;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:accountStatementTest")
+public class AccountStatementIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void statementPagesCarryRunningBalances() {
+        transactionService.processTransfer(transfer("1000000001", "1000000002", "100.00"));
+        transactionService.processTransfer(transfer("1000000002", "1000000001", "40.00"));
+        transactionService.processTransfers(List.of(
+                transfer("1000000001", "1000000003", "25.00"),
+                transfer("1000000003", "1000000001", "10.00")));
+        transactionService.processTransfer(transfer("1000000001", "1000000002", "5.00"));
+
+        List<LedgerEntryResponse> entries = new ArrayList<>();
+        String cursor = "";
+        do {
+            CursorPagedResponse<LedgerEntryResponse> page = accountStatementService.getStatement("1000000001", cursor, 2);
+            entries.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(entries).hasSize(5);
+        assertThat(entries).extracting(LedgerEntryResponse::getId).doesNotHaveDuplicates();
+        assertThat(entries.get(0).getBalanceAfter()).isEqualByComparingTo(
+                accountRepository.findByAccountNumberWithoutLock("1000000001").orElseThrow().getBalance());
+        for (int i = 0; i < entries.size() - 1; i++) {
+            LedgerEntryResponse newer = entries.get(i);
+            BigDecimal change = newer.getEntryType() == LedgerEntryType.CREDIT
+                    ? newer.getAmount() : newer.getAmount().negate();
+            assertThat(newer.getBalanceAfter()).isEqualByComparingTo(entries.get(i + 1).getBalanceAfter().add(change));
+        }
+    }
+
+    @Test
+    void unknownAccountIsRejected() {
+        assertThatThrownBy(() -> accountStatementService.getStatement("9999999999", null, 10))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    private TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
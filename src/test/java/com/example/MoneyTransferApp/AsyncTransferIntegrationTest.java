@@ -0,0 +1,106 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
+import com.example.MoneyTransferApp.entity.TransactionSummary;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.DailySummaryCache;
+import com.example.MoneyTransferApp.service.serviceImpl.LiveSummaryCounters;
+import com.example.MoneyTransferApp.service.serviceImpl.TransferExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:asyncTransferTest",
+        "transfer.summary.live-counters.enabled=true"
+})
+public class AsyncTransferIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferExecutor transferExecutor;
+
+    @Autowired
+    private LiveSummaryCounters liveSummaryCounters;
+
+    @Autowired
+    private DailySummaryCache dailySummaryCache;
+
+    @Test
+    void queuedTransfersCompleteInTheBackground() {
+        BigDecimal sourceBefore = balanceOf("1000000001");
+        BigDecimal destinationBefore = balanceOf("1000000002");
+
+        TransactionResponse accepted = transactionService.submitTransfer(transfer("1000000001", "1000000002", "100.00"), null);
+        TransactionResponse rejected = transactionService.submitTransfer(transfer("1000000003", "1000000004", "90000.00"), null);
+
+        assertThat(accepted.getStatus()).isEqualTo(TransactionStatus.PENDING);
+        assertThat(accepted.getBilledAmount()).isEqualByComparingTo("100.50");
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(transactionService.getTransaction(accepted.getReference()).getStatus())
+                    .isEqualTo(TransactionStatus.SUCCESSFUL);
+            assertThat(transactionService.getTransaction(rejected.getReference()).getStatus())
+                    .isEqualTo(TransactionStatus.INSUFFICIENT_FUNDS);
+        });
+        assertThat(balanceOf("1000000001")).isEqualByComparingTo(sourceBefore.subtract(new BigDecimal("100.50")));
+        assertThat(balanceOf("1000000002")).isEqualByComparingTo(destinationBefore.add(new BigDecimal("100.00")));
+    }
+
+    @Test
+    void replaysAQueuedTransferForTheSameIdempotencyKey() {
+        TransactionResponse first = transactionService.submitTransfer(transfer("1000000005", "1000000004", "10.00"), "async-key");
+        TransactionResponse second = transactionService.submitTransfer(transfer("1000000005", "1000000004", "10.00"), "async-key");
+
+        assertThat(second.getReference()).isEqualTo(first.getReference());
+    }
+
+    @Test
+    void liveCountersMatchTheDatabaseAfterQueuedTransfersFail() {
+        TransactionResponse rejected = transactionService.submitTransfer(transfer("1000000004", "1000000003", "90000.00"), null);
+        TransactionResponse abandoned = transferExecutor.submitPending(transfer("1000000004", "1000000003", "5.00"), null, null);
+        transferExecutor.failPending(abandoned.getId(), "Transfer could not be processed");
+
+        assertThat(transactionService.getTransaction(abandoned.getReference()).getStatus()).isEqualTo(TransactionStatus.FAILED);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(transactionService.getTransaction(rejected.getReference()).getStatus())
+                    .isEqualTo(TransactionStatus.INSUFFICIENT_FUNDS);
+
+            LocalDate today = LocalDate.now();
+            TransactionSummaryResponse live = liveSummaryCounters.snapshot(today);
+            TransactionSummary database = dailySummaryCache.build(today);
+            assertThat(live.getTotalTransactions()).isEqualTo(database.getTotalTransactions());
+            assertThat(live.getFailedTransactions()).isEqualTo(database.getFailedTransactions()).isPositive();
+            assertThat(live.getTotalAmount()).isEqualByComparingTo(database.getTotalAmount());
+            assertThat(live.getTotalFees()).isEqualByComparingTo(database.getTotalFees());
+        });
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumberWithoutLock(accountNumber).orElseThrow().getBalance();
+    }
+
+    private static TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
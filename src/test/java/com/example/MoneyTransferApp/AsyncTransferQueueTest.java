@@ -0,0 +1,41 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.exception.TransferQueueFullException;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.service.serviceImpl.AsyncTransferQueue;
+import com.example.MoneyTransferApp.service.serviceImpl.TransferExecutor;
+import com.example.MoneyTransferApp.service.serviceImpl.TransferRetryExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AsyncTransferQueueTest {
+
+    private final TransferExecutor transferExecutor = mock(TransferExecutor.class);
+
+    @Test
+    void refusesSubmissionsBeyondCapacity() throws Exception {
+        AsyncTransferQueue queue = new AsyncTransferQueue(transferExecutor, mock(TransactionRepository.class),
+                mock(TransferRetryExecutor.class), 2, 0, 10);
+        when(transferExecutor.submitPending(any(), any(), any()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(TransactionResponse.builder().id("txn-1").build())
+                .thenReturn(TransactionResponse.builder().id("txn-2").build());
+
+        assertThatThrownBy(() -> queue.submit(new TransferRequest(), null, null))
+                .isInstanceOf(IllegalStateException.class);
+        queue.submit(new TransferRequest(), null, null);
+        queue.submit(new TransferRequest(), null, null);
+
+        assertThatThrownBy(() -> queue.submit(new TransferRequest(), null, null))
+                .isInstanceOf(TransferQueueFullException.class);
+        assertThat(queue.getQueuedTransfers()).isEqualTo(2);
+        queue.shutdown();
+    }
+}
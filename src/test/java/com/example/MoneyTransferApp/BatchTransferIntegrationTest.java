@@ -0,0 +1,87 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.BatchTransferResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:batchTransferTest")
+public class BatchTransferIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void badItemsAreReportedWithoutFailingTheBatch() {
+        BigDecimal sourceBefore = balanceOf("1000000005");
+        BigDecimal destBefore = balanceOf("1000000004");
+        long transactionsBefore = transactionRepository.count();
+
+        BatchTransferResponse response = transactionService.processTransfers(List.of(
+                transfer("1000000005", "1000000004", "100.00"),
+                transfer("1000000005", "9999999999", "10.00"),
+                transfer("1000000005", "1000000004", "1000000.00"),
+                transfer("1000000005", "1000000005", "10.00"),
+                transfer("1000000005", "1000000004", "-5"),
+                transfer("1000000005", "1000000004", "200.00")));
+
+        assertThat(response.getSuccessfulTransfers()).isEqualTo(2);
+        assertThat(response.getFailedTransfers()).isEqualTo(4);
+        assertThat(response.getResults()).extracting("status").containsExactly(
+                TransactionStatus.SUCCESSFUL,
+                TransactionStatus.FAILED,
+                TransactionStatus.INSUFFICIENT_FUNDS,
+                TransactionStatus.FAILED,
+                TransactionStatus.FAILED,
+                TransactionStatus.SUCCESSFUL);
+
+        assertThat(balanceOf("1000000005")).isEqualByComparingTo(sourceBefore.subtract(new BigDecimal("301.50")));
+        assertThat(balanceOf("1000000004")).isEqualByComparingTo(destBefore.add(new BigDecimal("300.00")));
+        // Rejected items are stored too, so the audit trail and summaries match the single transfer path
+        assertThat(transactionRepository.count()).isEqualTo(transactionsBefore + 6);
+        assertThat(response.getResults()).allSatisfy(result -> assertThat(result.getReference()).isNotNull());
+        assertThat(transactionRepository.findByReference(response.getResults().get(2).getReference()).orElseThrow()
+                .getStatus()).isEqualTo(TransactionStatus.INSUFFICIENT_FUNDS);
+        assertThat(transactionRepository.findByReference(response.getResults().get(1).getReference()).orElseThrow()
+                .getStatusMessage()).isEqualTo("Destination account not found");
+
+        assertThat(meterRegistry.get("transfer.requests").tag("operation", "batch").tag("status", "none").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("transfer.postings").tag("status", "SUCCESSFUL").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("transfer.postings").tag("status", "INSUFFICIENT_FUNDS").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("transfer.postings").tag("status", "FAILED").counter().count()).isEqualTo(3);
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumberWithoutLock(accountNumber).orElseThrow().getBalance();
+    }
+
+    private TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
+import com.example.MoneyTransferApp.entity.TransactionSummary;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.ColumnarDayFile;
+import com.example.MoneyTransferApp.service.serviceImpl.ColumnarDayWriter;
+import com.example.MoneyTransferApp.service.serviceImpl.ColumnarTransactionArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:columnarArchiveTest",
+        "transfer.columnar.directory=target/columnar-test"
+})
+public class ColumnarTransactionArchiveIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.now().minusDays(3);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ColumnarTransactionArchive columnarTransactionArchive;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void closedDayIsSummarizedAndFilteredFromItsFile() {
+        insert("col-1", DAY.atTime(8, 15, 30, 123_000_000), "1000000001", "0000000042", "250.75", "1.25", "SUCCESSFUL", true, "0.25");
+        insert("col-2", DAY.atTime(9, 0), "1000000002", "1000000003", "80.00", "0.40", "SUCCESSFUL", false, null);
+        insert("col-3", DAY.atTime(23, 59, 59), "0000000042", "1000000001", "5000.00", "25.00", "INSUFFICIENT_FUNDS", false, null);
+        insert("col-4", DAY.plusDays(1).atStartOfDay(), "0000000042", "1000000001", "1.00", "0.01", "SUCCESSFUL", false, null);
+
+        transactionService.writeColumnarDay(DAY);
+
+        TransactionSummaryResponse expected = transactionService.generateTransactionSummary(DAY);
+        TransactionSummary summary = columnarTransactionArchive.summarize(DAY).orElseThrow();
+        assertThat(summary.getTotalTransactions()).isEqualTo(expected.getTotalTransactions()).isEqualTo(3);
+        assertThat(summary.getSuccessfulTransactions()).isEqualTo(expected.getSuccessfulTransactions()).isEqualTo(2);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo(expected.getTotalAmount()).isEqualByComparingTo("330.75");
+        assertThat(summary.getTotalFees()).isEqualByComparingTo(expected.getTotalFees());
+        assertThat(summary.getTotalCommission()).isEqualByComparingTo(expected.getTotalCommission()).isEqualByComparingTo("0.25");
+
+        List<TransactionResponse> matches = columnarTransactionArchive.findByAccount("0000000042", DAY.minusDays(1), DAY.plusDays(1));
+        assertThat(matches).extracting(TransactionResponse::getId).containsExactly("col-1", "col-3");
+        TransactionResponse first = matches.get(0);
+        assertThat(first.getDestinationAccountNumber()).isEqualTo("0000000042");
+        assertThat(first.getAmount()).isEqualByComparingTo("250.75");
+        assertThat(first.getBilledAmount()).isEqualByComparingTo("252.00");
+        assertThat(first.getStatus()).isEqualTo(TransactionStatus.SUCCESSFUL);
+        assertThat(first.isCommissionWorthy()).isTrue();
+        assertThat(first.getCreatedAt()).isEqualTo(DAY.atTime(8, 15, 30, 123_000_000));
+        assertThat(columnarTransactionArchive.findByAccount("1000000009", DAY, DAY)).isEmpty();
+    }
+
+    @Test
+    void columnsOfEveryWidthRoundTrip(@TempDir Path directory) throws Exception {
+        LocalDate day = LocalDate.of(2025, 1, 31);
+        ColumnarDayWriter writer = new ColumnarDayWriter(day);
+        long expectedAmount = 0;
+        for (int i = 0; i < 3000; i++) {
+            long amount = i % 3 == 0 ? 1_000_000_000_000L + i : i;
+            String status = i % 7 == 0 ? "FAILED" : "SUCCESSFUL";
+            if (!"FAILED".equals(status)) {
+                expectedAmount += amount;
+            }
+            writer.add("id-" + i, "1000000001", String.format("%010d", 1000 + i * 100_000L), amount, 50, amount + 50,
+                    status, false, 0, day.atStartOfDay().plusSeconds(i * 20L));
+        }
+        Path file = directory.resolve("day.col");
+        writer.write(file);
+
+        ColumnarDayFile dayFile = ColumnarDayFile.open(file);
+        TransactionSummary summary = dayFile.summarize();
+        assertThat(dayFile.getRows()).isEqualTo(3000);
+        assertThat(summary.getFailedTransactions()).isEqualTo(429);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(expectedAmount, 2));
+        assertThat(summary.getTotalCommission()).isEqualByComparingTo("0");
+
+        List<TransactionResponse> matches = dayFile.findByAccount(String.format("%010d", 1000 + 2999 * 100_000L));
+        assertThat(matches).singleElement().satisfies(row -> {
+            assertThat(row.getId()).isEqualTo("id-2999");
+            assertThat(row.getAmount()).isEqualByComparingTo("29.99");
+            assertThat(row.getStatus()).isEqualTo(TransactionStatus.SUCCESSFUL);
+        });
+        assertThat(dayFile.findByAccount("1000000001")).hasSize(3000);
+    }
+
+    private void insert(String id, LocalDateTime createdAt, String source, String destination, String amount,
+                        String fee, String status, boolean commissionWorthy, String commission) {
+        BigDecimal billed = new BigDecimal(amount).add(new BigDecimal(fee));
+        jdbcTemplate.update("INSERT INTO transactions (id, reference, source_account_number, destination_account_number, " +
+                        "amount, transaction_fee, billed_amount, description, status, commission_worthy, commission, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'columnar test', ?, ?, ?, ?, ?)",
+                id, id, source, destination, new BigDecimal(amount), new BigDecimal(fee), billed, status,
+                commissionWorthy, commission == null ? null : new BigDecimal(commission),
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.CommissionEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:commissionEngineTest",
+        "transfer.commission.chunk-size=3"
+})
+public class CommissionEngineIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CommissionEngine commissionEngine;
+
+    @Test
+    void appliesCommissionToEveryEligibleRowAcrossChunks() {
+        commissionEngine.run();
+        for (int i = 0; i < 7; i++) {
+            transactionService.processTransfer(transfer("1000000001", "1000000002", "33.33"));
+        }
+
+        assertThat(commissionEngine.run()).isEqualTo(7);
+
+        for (Transaction transaction : transactionRepository.findAll()) {
+            assertThat(transaction.isCommissionWorthy()).isTrue();
+            assertThat(transaction.getCommission()).isEqualByComparingTo(
+                    transaction.getTransactionFee().multiply(new BigDecimal("0.2")).setScale(2, RoundingMode.HALF_UP));
+        }
+        assertThat(commissionEngine.run()).isZero();
+    }
+
+    private TransferRequest transfer(String source, String dest, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(dest);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
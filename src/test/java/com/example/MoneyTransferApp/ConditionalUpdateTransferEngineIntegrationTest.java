@@ -0,0 +1,86 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.exception.AccountNotFoundException;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "transfer.engine.mode=CONDITIONAL",
+        "spring.datasource.url=jdbc:h2:mem:conditionalEngineTest"
+})
+public class ConditionalUpdateTransferEngineIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void debitsAndCreditsWithGuardedUpdates() {
+        BigDecimal sourceBefore = balanceOf("1000000002");
+        BigDecimal destBefore = balanceOf("1000000001");
+
+        String transactionId = transactionService.processTransfer(transfer("1000000002", "1000000001", "200.00")).getId();
+
+        assertThat(balanceOf("1000000002")).isEqualByComparingTo(sourceBefore.subtract(new BigDecimal("201.00")));
+        assertThat(balanceOf("1000000001")).isEqualByComparingTo(destBefore.add(new BigDecimal("200.00")));
+        // Balances returned by the guarded UPDATEs end up on the ledger entries
+        assertThat(ledgerBalance(transactionId, "1000000002")).isEqualByComparingTo(balanceOf("1000000002"));
+        assertThat(ledgerBalance(transactionId, "1000000001")).isEqualByComparingTo(balanceOf("1000000001"));
+    }
+
+    @Test
+    void rejectsInsufficientFundsWithoutChangingBalances() {
+        BigDecimal sourceBefore = balanceOf("1000000003");
+        BigDecimal destBefore = balanceOf("1000000004");
+
+        assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000003", "1000000004", "999999.00")))
+                .isInstanceOf(InsufficientFundsException.class);
+
+        assertThat(balanceOf("1000000003")).isEqualByComparingTo(sourceBefore);
+        assertThat(balanceOf("1000000004")).isEqualByComparingTo(destBefore);
+    }
+
+    @Test
+    void rollsBackDebitWhenDestinationIsUnknown() {
+        BigDecimal sourceBefore = balanceOf("1000000005");
+
+        assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000005", "9999999999", "10.00")))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("Destination account not found");
+
+        assertThat(balanceOf("1000000005")).isEqualByComparingTo(sourceBefore);
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumberWithoutLock(accountNumber).orElseThrow().getBalance();
+    }
+
+    private TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+
+    private BigDecimal ledgerBalance(String transactionId, String accountNumber) {
+        return jdbcTemplate.queryForObject("SELECT balance_after FROM ledger_entries " +
+                "WHERE transaction_id = ? AND account_number = ?", BigDecimal.class, transactionId, accountNumber);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.FeeTierRule;
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.enums.AccountClass;
+import com.example.MoneyTransferApp.service.serviceImpl.FeeSchedule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FeeScheduleTest {
+
+    @Test
+    void flatScheduleCapsTheFee() {
+        FeeSchedule feeSchedule = FeeSchedule.flat("0.005", "100");
+
+        assertThat(fee(feeSchedule, AccountClass.STANDARD, "1000.00")).isEqualByComparingTo("5.00");
+        assertThat(fee(feeSchedule, AccountClass.STANDARD, "33.33")).isEqualByComparingTo("0.17");
+        assertThat(fee(feeSchedule, AccountClass.PREMIUM, "50000.00")).isEqualByComparingTo("100.00");
+        assertThat(feeSchedule.isAccountClassSensitive()).isFalse();
+    }
+
+    @Test
+    void picksTheTierByAmountAndAccountClass() {
+        FeeSchedule feeSchedule = FeeSchedule.compile(List.of(
+                tier(null, "0", "0.01", "0", null),
+                tier(null, "1000", "0.005", "0", "20"),
+                tier(AccountClass.BUSINESS, "0", "0.002", "0.50", "10")));
+
+        assertThat(fee(feeSchedule, AccountClass.STANDARD, "999.99")).isEqualByComparingTo("10.00");
+        assertThat(fee(feeSchedule, AccountClass.STANDARD, "1000.00")).isEqualByComparingTo("5.00");
+        assertThat(fee(feeSchedule, AccountClass.STANDARD, "10000.00")).isEqualByComparingTo("20.00");
+        assertThat(fee(feeSchedule, AccountClass.PREMIUM, "1000.00")).isEqualByComparingTo("5.00");
+        assertThat(fee(feeSchedule, AccountClass.BUSINESS, "1000.00")).isEqualByComparingTo("2.50");
+        assertThat(fee(feeSchedule, AccountClass.BUSINESS, "100000.00")).isEqualByComparingTo("10.00");
+        assertThat(feeSchedule.isAccountClassSensitive()).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        assertThatThrownBy(() -> FeeSchedule.flat("0.0000001", "100"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(List.of(tier(null, "10", "0.01", "0", null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(List.of(tier(AccountClass.PREMIUM, "0", "0.01", "0", null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(List.of(
+                tier(null, "0", "0.01", "0", null), tier(null, "0", "0.02", "0", null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BigDecimal fee(FeeSchedule feeSchedule, AccountClass accountClass, String amount) {
+        return feeSchedule.transactionFee(accountClass, Money.of(new BigDecimal(amount))).toBigDecimal();
+    }
+
+    private static FeeTierRule tier(AccountClass accountClass, String minAmount, String percentage,
+                                    String fixedFee, String cap) {
+        FeeTierRule rule = new FeeTierRule();
+        rule.setAccountClass(accountClass);
+        rule.setMinAmount(new BigDecimal(minAmount));
+        rule.setPercentage(percentage);
+        rule.setFixedFee(new BigDecimal(fixedFee));
+        rule.setCap(cap == null ? null : new BigDecimal(cap));
+        return rule;
+    }
+}
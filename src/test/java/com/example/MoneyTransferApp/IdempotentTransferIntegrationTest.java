@@ -0,0 +1,89 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.exception.InvalidTransactionException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.repository.IdempotencyRecordRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:idempotentTransferTest")
+public class IdempotentTransferIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Test
+    void replaysTheOriginalResponseWithoutMovingMoneyAgain() {
+        BigDecimal sourceBefore = balanceOf("1000000001");
+
+        TransactionResponse first = transactionService.processTransfer(transfer("1000000001", "1000000002", "100.00"), "key-replay");
+        TransactionResponse second = transactionService.processTransfer(transfer("1000000001", "1000000002", "100.0"), "key-replay");
+
+        assertThat(second.getReference()).isEqualTo(first.getReference());
+        assertThat(balanceOf("1000000001")).isEqualByComparingTo(sourceBefore.subtract(new BigDecimal("100.50")));
+        assertThat(idempotencyRecordRepository.findByIdempotencyKey("key-replay")).isPresent();
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentRequest() {
+        transactionService.processTransfer(transfer("1000000003", "1000000004", "10.00"), "key-mismatch");
+
+        assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000003", "1000000004", "11.00"), "key-mismatch"))
+                .isInstanceOf(InvalidTransactionException.class);
+    }
+
+    @Test
+    void concurrentRetriesMoveMoneyOnce() throws Exception {
+        BigDecimal sourceBefore = balanceOf("1000000005");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<TransactionResponse>> retries = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                retries.add(() -> transactionService.processTransfer(transfer("1000000005", "1000000001", "20.00"), "key-concurrent"));
+            }
+
+            List<String> references = new ArrayList<>();
+            for (Future<TransactionResponse> result : executor.invokeAll(retries)) {
+                references.add(result.get().getReference());
+            }
+
+            assertThat(references).containsOnly(references.get(0));
+            assertThat(balanceOf("1000000005")).isEqualByComparingTo(sourceBefore.subtract(new BigDecimal("20.10")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumberWithoutLock(accountNumber).orElseThrow().getBalance();
+    }
+
+    private TransferRequest transfer(String source, String dest, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(dest);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.Account;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.InMemoryLedgerTransferEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = {
+        "transfer.engine.mode=LEDGER",
+        "transfer.ledger.flush-interval-ms=10",
+        "spring.datasource.url=jdbc:h2:mem:ledgerEngineTest"
+})
+public class LedgerTransferEngineIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private InMemoryLedgerTransferEngine ledgerTransferEngine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void oppositeDirectionTransfersConserveMoneyAndWriteBack() throws Exception {
+        BigDecimal totalBefore = totalBalance();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            boolean forward = i % 2 == 0;
+            futures.add(executor.submit(() -> transactionService.processTransfer(
+                    transfer(forward ? "1000000001" : "1000000002", forward ? "1000000002" : "1000000001", "10.00"))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        BigDecimal expectedFees = new BigDecimal("0.05").multiply(BigDecimal.valueOf(200));
+        await().untilAsserted(() ->
+                assertThat(totalBalance()).isEqualByComparingTo(totalBefore.subtract(expectedFees)));
+    }
+
+    @Test
+    void insufficientFundsLeavesLedgerUntouched() {
+        BigDecimal before = accountRepository.findByAccountNumberWithoutLock("1000000003").orElseThrow().getBalance();
+
+        assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000003", "1000000004", "999999.00")))
+                .isInstanceOf(InsufficientFundsException.class);
+
+        transactionService.processTransfer(transfer("1000000003", "1000000004", "1.00"));
+        await().untilAsserted(() -> assertThat(accountRepository.findByAccountNumberWithoutLock("1000000003")
+                .orElseThrow().getBalance()).isEqualByComparingTo(before.subtract(new BigDecimal("1.01"))));
+    }
+
+    @Test
+    void onlyCommittedPostingsAreWrittenBack() {
+        BigDecimal before = balanceOf("1000000005");
+        TransactionTemplate nested = new TransactionTemplate(transactionManager);
+        nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ledgerTransferEngine.applyTransfer("1000000005", "1000000001",
+                    Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("10.05")));
+            // Commits while the outer debit is still open, which marks the account for write-back
+            nested.executeWithoutResult(inner -> ledgerTransferEngine.applyTransfer("1000000004", "1000000005",
+                    Money.of(new BigDecimal("1.00")), Money.of(new BigDecimal("1.01"))));
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            assertThat(CompletableFuture.supplyAsync(() -> balanceOf("1000000005")).join())
+                    .isEqualByComparingTo(before.add(new BigDecimal("1.00")));
+            status.setRollbackOnly();
+        });
+
+        transactionService.processTransfer(transfer("1000000005", "1000000001", "1.00"));
+        await().untilAsserted(() -> assertThat(balanceOf("1000000005"))
+                .isEqualByComparingTo(before.subtract(new BigDecimal("0.01"))));
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumberWithoutLock(accountNumber).orElseThrow().getBalance();
+    }
+
+    private BigDecimal totalBalance() {
+        return accountRepository.findAll().stream()
+                .map(Account::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MoneyTest {
+
+    @Test
+    void applyRateRoundsHalfUpLikeBigDecimal() {
+        Random random = new Random(7);
+        long[] rates = {Money.parseRate("0.005"), Money.parseRate("0.2"), Money.parseRate("0.123456")};
+        for (int i = 0; i < 100_000; i++) {
+            long minorUnits = random.nextLong(1, 1_000_000_000_000L);
+            for (long rate : rates) {
+                BigDecimal expected = BigDecimal.valueOf(minorUnits, 2)
+                        .multiply(BigDecimal.valueOf(rate, Money.RATE_SCALE))
+                        .setScale(2, RoundingMode.HALF_UP);
+                assertThat(Money.ofMinor(minorUnits).applyRate(rate).toBigDecimal()).isEqualByComparingTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void applyRateFallsBackOnOverflow() {
+        long rate = Money.parseRate("0.5");
+        assertThat(Money.applyRate(Long.MAX_VALUE / 2, rate)).isEqualTo(Long.MAX_VALUE / 4 + 1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:readWriteRoutingTest")
+public class ReadWriteDataSourceIntegrationTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private HikariDataSource readDataSource;
+
+    @Test
+    void readOnlyTransactionsBorrowFromTheReadPool() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            assertThat(accountRepository.count()).isEqualTo(5);
+            assertThat(readDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+        });
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(accountRepository.count()).isEqualTo(5);
+            assertThat(readDataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+        });
+    }
+}
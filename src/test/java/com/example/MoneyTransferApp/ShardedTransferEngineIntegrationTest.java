@@ -0,0 +1,163 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.LedgerEntryResponse;
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.Account;
+import com.example.MoneyTransferApp.enums.LedgerEntryType;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.AccountRepository;
+import com.example.MoneyTransferApp.service.AccountStatementService;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.ShardedTransferEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = {
+        "transfer.engine.mode=SHARDED",
+        "transfer.sharded.shards=4",
+        "transfer.sharded.flush-interval-ms=10",
+        "spring.datasource.url=jdbc:h2:mem:shardedEngineTest"
+})
+public class ShardedTransferEngineIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ShardedTransferEngine shardedTransferEngine;
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void oppositeDirectionTransfersConserveMoneyAndWriteBack() throws Exception {
+        BigDecimal totalBefore = totalBalance();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            boolean forward = i % 2 == 0;
+            futures.add(executor.submit(() -> transactionService.processTransfer(
+                    transfer(forward ? "1000000001" : "1000000002", forward ? "1000000002" : "1000000001", "10.00"))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        BigDecimal expectedFees = new BigDecimal("0.05").multiply(BigDecimal.valueOf(200));
+        await().untilAsserted(() ->
+                assertThat(totalBalance()).isEqualByComparingTo(totalBefore.subtract(expectedFees)));
+        assertThat(shardedTransferEngine.getShardStats())
+                .hasSize(4)
+                .allSatisfy(stats -> assertThat(stats.queueDepth()).isZero());
+    }
+
+    @Test
+    void insufficientFundsLeavesBalancesUntouched() {
+        BigDecimal before = accountRepository.findByAccountNumberWithoutLock("1000000003").orElseThrow().getBalance();
+
+        assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000003", "1000000004", "999999.00")))
+                .isInstanceOf(InsufficientFundsException.class);
+
+        transactionService.processTransfer(transfer("1000000003", "1000000004", "1.00"));
+        await().untilAsserted(() -> assertThat(accountRepository.findByAccountNumberWithoutLock("1000000003")
+                .orElseThrow().getBalance()).isEqualByComparingTo(before.subtract(new BigDecimal("1.01"))));
+        // The credit side reaches the ledger through the write-behind flusher
+        await().untilAsserted(() -> assertThat(accountStatementService.getStatement("1000000004", null, 10).getContent())
+                .extracting(LedgerEntryResponse::getEntryType)
+                .containsExactly(LedgerEntryType.CREDIT));
+    }
+
+    @Test
+    void debitIsNotWrittenBackBeforeTheTransferCommits() {
+        BigDecimal before = balanceOf("1000000005");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            shardedTransferEngine.applyTransfer("1000000005", "1000000001",
+                    Money.of(new BigDecimal("10.00")), Money.of(new BigDecimal("10.05")));
+            try {
+                // Many flush intervals while the credit only exists as a pending settlement
+                Thread.sleep(200);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            assertThat(CompletableFuture.supplyAsync(() -> balanceOf("1000000005")).join()).isEqualByComparingTo(before);
+        });
+
+        await().untilAsserted(() -> assertThat(balanceOf("1000000005"))
+                .isEqualByComparingTo(before.subtract(new BigDecimal("10.05"))));
+    }
+
+    @Test
+    void statementBalancesIgnoreReservationsThatRollBack() {
+        List<TransactionResponse> committed = new ArrayList<>();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            transactionService.processTransfer(transfer("1000000003", "1000000001", "10.00"));
+            // Commits while the outer reservation still holds part of the source's available balance
+            committed.add(CompletableFuture.supplyAsync(() ->
+                    transactionService.processTransfer(transfer("1000000003", "1000000002", "20.00"))).join());
+            status.setRollbackOnly();
+        });
+        committed.add(transactionService.processTransfer(transfer("1000000003", "1000000005", "4.00")));
+
+        List<String> ids = committed.stream().map(TransactionResponse::getId).toList();
+        await().untilAsserted(() -> assertThat(accountStatementService.getStatement("1000000003", null, 100).getContent())
+                .filteredOn(entry -> ids.contains(entry.getTransactionId()))
+                .hasSize(2));
+
+        List<LedgerEntryResponse> debits = accountStatementService.getStatement("1000000003", null, 100).getContent()
+                .stream()
+                .filter(entry -> ids.contains(entry.getTransactionId()))
+                .toList();
+        assertThat(debits).extracting(LedgerEntryResponse::getEntryType)
+                .containsOnly(LedgerEntryType.DEBIT);
+        // Newest first, each balance the previous one minus what the later transfer billed
+        assertThat(debits.get(0).getBalanceAfter()).isEqualByComparingTo(
+                debits.get(1).getBalanceAfter().subtract(committed.get(1).getBilledAmount()));
+        await().untilAsserted(() -> assertThat(balanceOf("1000000003"))
+                .isEqualByComparingTo(debits.get(0).getBalanceAfter()));
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumberWithoutLock(accountNumber).orElseThrow().getBalance();
+    }
+
+    private BigDecimal totalBalance() {
+        return accountRepository.findAll().stream()
+                .map(Account::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
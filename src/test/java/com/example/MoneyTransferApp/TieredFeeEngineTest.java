@@ -0,0 +1,74 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.AccountMetadata;
+import com.example.MoneyTransferApp.dto.Money;
+import com.example.MoneyTransferApp.enums.AccountClass;
+import com.example.MoneyTransferApp.service.serviceImpl.AccountMetadataCache;
+import com.example.MoneyTransferApp.service.serviceImpl.TieredFeeEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class TieredFeeEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AccountMetadataCache accountMetadataCache = mock(AccountMetadataCache.class);
+
+    @Test
+    void usesFlatFeeWithoutRulesFile() {
+        TieredFeeEngine feeEngine = new TieredFeeEngine(accountMetadataCache, new ObjectMapper(), "0.005", "100", "");
+
+        assertThat(fee(feeEngine, "1000000001", "1000.00")).isEqualByComparingTo("5.00");
+        verifyNoInteractions(accountMetadataCache);
+    }
+
+    @Test
+    void reloadsChangedRulesAndKeepsThemWhenTheFileBreaks() throws Exception {
+        Path rulesFile = tempDir.resolve("fee-rules.json");
+        writeRules(rulesFile, """
+                {"tiers": [
+                  {"minAmount": 0, "percentage": "0.01"},
+                  {"accountClass": "PREMIUM", "minAmount": 0, "percentage": "0.001"}
+                ]}""", 1);
+        when(accountMetadataCache.find("1000000001"))
+                .thenReturn(Optional.of(new AccountMetadata(1L, "1000000001", "Premium", AccountClass.PREMIUM)));
+
+        TieredFeeEngine feeEngine = new TieredFeeEngine(accountMetadataCache, new ObjectMapper(), "0.005", "100",
+                rulesFile.toString());
+        assertThat(fee(feeEngine, "1000000001", "1000.00")).isEqualByComparingTo("1.00");
+        assertThat(fee(feeEngine, "1000000002", "1000.00")).isEqualByComparingTo("10.00");
+
+        writeRules(rulesFile, """
+                {"tiers": [{"minAmount": 0, "percentage": "0.02", "cap": 15}]}""", 2);
+        feeEngine.reloadRules();
+        assertThat(fee(feeEngine, "1000000001", "1000.00")).isEqualByComparingTo("15.00");
+
+        writeRules(rulesFile, """
+                {"tiers": [{"minAmount": 10, "percentage": "0.03"}]}""", 3);
+        feeEngine.reloadRules();
+        assertThat(fee(feeEngine, "1000000001", "1000.00")).isEqualByComparingTo("15.00");
+    }
+
+    private static BigDecimal fee(TieredFeeEngine feeEngine, String accountNumber, String amount) {
+        return feeEngine.transactionFee(accountNumber, Money.of(new BigDecimal(amount))).toBigDecimal();
+    }
+
+    private static void writeRules(Path rulesFile, String json, int version) throws Exception {
+        Files.writeString(rulesFile, json);
+        Files.setLastModifiedTime(rulesFile, FileTime.from(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(version)));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionFilterRequest;
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
+import com.example.MoneyTransferApp.enums.ExportFormat;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.TransactionPartitions;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transactionArchiveTest",
+        "transfer.archive.retention-days=7",
+        "transfer.archive.chunk-size=2"
+})
+public class TransactionArchiveIntegrationTest {
+
+    private static final LocalDate OLDER_DAY = LocalDate.now().minusMonths(2).withDayOfMonth(15);
+    private static final LocalDate OLD_DAY = LocalDate.now().minusMonths(1).withDayOfMonth(3);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archivesFinalizedRowsAndKeepsThemReadable() throws Exception {
+        insert("arch-1", OLDER_DAY.atTime(9, 0), "SUCCESSFUL", true);
+        insert("arch-2", OLDER_DAY.atTime(10, 0), "SUCCESSFUL", true);
+        insert("arch-3", OLDER_DAY.atTime(11, 0), "FAILED", false);
+        insert("arch-4", OLD_DAY.atTime(9, 0), "SUCCESSFUL", true);
+        insert("hot-1", OLD_DAY.atTime(10, 0), "SUCCESSFUL", false);
+        insert("hot-2", OLD_DAY.atTime(11, 0), "PENDING", false);
+
+        transactionService.archiveTransactions();
+        transactionService.archiveTransactions();
+
+        assertThat(count(TransactionPartitions.HOT_TABLE)).isEqualTo(2);
+        assertThat(count(TransactionPartitions.tableName(YearMonth.from(OLDER_DAY)))).isEqualTo(3);
+        assertThat(count(TransactionPartitions.tableName(YearMonth.from(OLD_DAY)))).isEqualTo(1);
+
+        TransactionFilterRequest filter = new TransactionFilterRequest();
+        filter.setAccountNumber("1000000001");
+        filter.setStartDate(OLDER_DAY.atStartOfDay());
+        filter.setEndDate(OLD_DAY.atTime(LocalTime.MAX));
+        filter.setPage(0);
+        filter.setSize(4);
+        Page<TransactionResponse> page = transactionService.getTransactionsWithFilters(filter);
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent()).extracting(TransactionResponse::getId)
+                .containsExactly("hot-2", "hot-1", "arch-4", "arch-3");
+
+        TransactionFilterRequest failed = new TransactionFilterRequest();
+        failed.setStatus(TransactionStatus.FAILED);
+        failed.setStartDate(OLDER_DAY.atStartOfDay());
+        failed.setPage(0);
+        assertThat(transactionService.getTransactionsWithFilters(failed).getContent())
+                .extracting(TransactionResponse::getId).containsExactly("arch-3");
+
+        assertThat(transactionService.getTransaction("arch-1").getStatus()).isEqualTo(TransactionStatus.SUCCESSFUL);
+
+        TransactionSummaryResponse summary = transactionService.generateTransactionSummary(OLDER_DAY);
+        assertThat(summary.getTotalTransactions()).isEqualTo(3);
+        assertThat(summary.getSuccessfulTransactions()).isEqualTo(2);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo("200.00");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(transactionService.exportTransactions(filter, ExportFormat.CSV, out)).isEqualTo(6);
+    }
+
+    private void insert(String id, LocalDateTime createdAt, String status, boolean commissionWorthy) {
+        jdbcTemplate.update("INSERT INTO transactions (id, reference, source_account_number, destination_account_number, " +
+                        "amount, transaction_fee, billed_amount, description, status, commission_worthy, commission, " +
+                        "created_at, updated_at) VALUES (?, ?, '1000000001', '1000000002', ?, ?, ?, 'archive test', ?, ?, ?, ?, ?)",
+                id, id, new BigDecimal("100.00"), new BigDecimal("0.50"), new BigDecimal("100.50"), status,
+                commissionWorthy, commissionWorthy ? new BigDecimal("0.10") : BigDecimal.ZERO,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE description = 'archive test'", Long.class);
+    }
+}
@@ -2,7 +2,9 @@ package com.example.MoneyTransferApp;
 
 import com.example.MoneyTransferApp.controller.TransactionController;
 import com.example.MoneyTransferApp.dto.*;
+import com.example.MoneyTransferApp.enums.ExportFormat;
 import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.exception.TransferQueueFullException;
 import com.example.MoneyTransferApp.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -12,12 +14,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -54,7 +62,7 @@ public class TransactionControllerIntegrationTest {
                 .statusMessage("Transfer completed successfully")
                 .build();
 
-        when(transactionService.processTransfer(any(TransferRequest.class))).thenReturn(response);
+        when(transactionService.processTransfer(any(TransferRequest.class), any())).thenReturn(response);
 
         mockMvc.perform(post("/api/transactions/transfer")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -65,6 +73,102 @@ public class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.destinationAccountNumber").value("0987654321"));
     }
 
+    @Test
+    void processTransfer_PassesIdempotencyKey() throws Exception {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber("1234567890");
+        request.setDestinationAccountNumber("0987654321");
+        request.setAmount(new BigDecimal("1000"));
+
+        TransactionResponse response = TransactionResponse.builder()
+                .id("txn-1")
+                .reference("txn-1")
+                .status(TransactionStatus.SUCCESSFUL)
+                .build();
+
+        when(transactionService.processTransfer(any(TransferRequest.class), eq("retry-key-1"))).thenReturn(response);
+
+        mockMvc.perform(post("/api/transactions/transfer")
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reference").value("txn-1"));
+    }
+
+    @Test
+    void processTransfer_AsyncReturnsAccepted() throws Exception {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber("1234567890");
+        request.setDestinationAccountNumber("0987654321");
+        request.setAmount(new BigDecimal("1000"));
+
+        TransactionResponse response = TransactionResponse.builder()
+                .id("txn-2")
+                .reference("txn-2")
+                .status(TransactionStatus.PENDING)
+                .build();
+
+        when(transactionService.submitTransfer(any(TransferRequest.class), any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/transactions/transfer")
+                        .param("mode", "async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/transactions/txn-2"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void processTransfer_AsyncQueueFull() throws Exception {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber("1234567890");
+        request.setDestinationAccountNumber("0987654321");
+        request.setAmount(new BigDecimal("1000"));
+
+        when(transactionService.submitTransfer(any(TransferRequest.class), any()))
+                .thenThrow(new TransferQueueFullException("Transfer queue is full, retry later"));
+
+        mockMvc.perform(post("/api/transactions/transfer")
+                        .param("mode", "async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void getTransaction_ByReference() throws Exception {
+        when(transactionService.getTransaction("txn-3")).thenReturn(TransactionResponse.builder()
+                .reference("txn-3")
+                .status(TransactionStatus.SUCCESSFUL)
+                .build());
+
+        mockMvc.perform(get("/api/transactions/txn-3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCESSFUL"));
+    }
+
+    @Test
+    void exportTransactions_StreamsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":\"txn-4\"}\n".getBytes());
+            return 1L;
+        }).when(transactionService).exportTransactions(any(TransactionFilterRequest.class), eq(ExportFormat.NDJSON), any());
+
+        MvcResult result = mockMvc.perform(get("/api/transactions/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions.ndjson\""))
+                .andExpect(content().string("{\"id\":\"txn-4\"}\n"));
+    }
+
     @Test
     void processTransfer_ValidationError() throws Exception {
         TransferRequest request = new TransferRequest();
@@ -126,4 +230,41 @@ public class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalTransactions").value(10))
                 .andExpect(jsonPath("$.successfulTransactions").value(8));
     }
+
+    @Test
+    void processBatchTransfer_Success() throws Exception {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber("1234567890");
+        request.setDestinationAccountNumber("0987654321");
+        request.setAmount(new BigDecimal("100"));
+
+        BatchTransferRequest batchRequest = new BatchTransferRequest();
+        batchRequest.setTransfers(List.of(request, new TransferRequest()));
+
+        BatchTransferResponse response = BatchTransferResponse.builder()
+                .totalTransfers(2)
+                .successfulTransfers(1)
+                .failedTransfers(1)
+                .results(List.of(
+                        BatchTransferResult.builder().index(0).status(TransactionStatus.SUCCESSFUL).build(),
+                        BatchTransferResult.builder().index(1).status(TransactionStatus.FAILED).build()))
+                .build();
+
+        when(transactionService.processTransfers(anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/api/transactions/transfers:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successfulTransfers").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"));
+    }
+
+    @Test
+    void processBatchTransfer_EmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/transactions/transfers:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transfers\": []}"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.CursorPagedResponse;
+import com.example.MoneyTransferApp.dto.TransactionFilterRequest;
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.exception.InvalidTransactionException;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cursorPagingTest")
+public class TransactionCursorPagingIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Test
+    void walksEveryTransactionOnceInNewestFirstOrder() {
+        for (int i = 0; i < 7; i++) {
+            transactionService.processTransfer(transfer("1000000004", "1000000005", "1.00"));
+        }
+
+        TransactionFilterRequest filterRequest = new TransactionFilterRequest();
+        filterRequest.setAccountNumber("1000000004");
+        filterRequest.setSize(3);
+        filterRequest.setCursor("");
+        filterRequest.setIncludeTotal(true);
+
+        List<TransactionResponse> seen = new ArrayList<>();
+        CursorPagedResponse<TransactionResponse> page = transactionService.getTransactionsAfterCursor(filterRequest);
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        seen.addAll(page.getContent());
+
+        filterRequest.setIncludeTotal(false);
+        while (page.isHasNext()) {
+            filterRequest.setCursor(page.getNextCursor());
+            page = transactionService.getTransactionsAfterCursor(filterRequest);
+            assertThat(page.getTotalElements()).isNull();
+            seen.addAll(page.getContent());
+        }
+
+        assertThat(seen).hasSize(7);
+        assertThat(seen).extracting(TransactionResponse::getId).doesNotHaveDuplicates();
+        assertThat(seen).extracting(TransactionResponse::getCreatedAt).isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        TransactionFilterRequest filterRequest = new TransactionFilterRequest();
+        filterRequest.setCursor("not-a-cursor");
+
+        assertThatThrownBy(() -> transactionService.getTransactionsAfterCursor(filterRequest))
+                .isInstanceOf(InvalidTransactionException.class);
+    }
+
+    private TransferRequest transfer(String source, String dest, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(dest);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
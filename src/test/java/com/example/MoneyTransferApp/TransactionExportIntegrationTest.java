@@ -0,0 +1,78 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionFilterRequest;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.enums.ExportFormat;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transactionExportTest",
+        "transfer.export.fetch-size=2"
+})
+public class TransactionExportIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seed() {
+        transactionService.processTransfer(transfer("1000000001", "1000000002", "10.00", "Rent, \"March\""));
+        transactionService.processTransfer(transfer("1000000002", "1000000003", "20.00", "line\nbreak"));
+        transactionService.processTransfer(transfer("1000000004", "1000000005", "30.00", null));
+    }
+
+    @Test
+    void exportsCsvWithQuotedFields() throws Exception {
+        TransactionFilterRequest filter = new TransactionFilterRequest();
+        filter.setAccountNumber("1000000002");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = transactionService.exportTransactions(filter, ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isGreaterThanOrEqualTo(2);
+        assertThat(csv).startsWith("id,reference,sourceAccountNumber,");
+        assertThat(csv).contains(",\"Rent, \"\"March\"\"\",").contains(",\"line\nbreak\",");
+        assertThat(csv).doesNotContain("1000000004");
+    }
+
+    @Test
+    void exportsOneJsonObjectPerLine() throws Exception {
+        TransactionFilterRequest filter = new TransactionFilterRequest();
+        filter.setAccountNumber("1000000004");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = transactionService.exportTransactions(filter, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize((int) rows);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("sourceAccountNumber").asText()).isEqualTo("1000000004");
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("30.00");
+        assertThat(first.get("description").isNull()).isTrue();
+    }
+
+    private TransferRequest transfer(String source, String destination, String amount, String description) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        request.setDescription(description);
+        return request;
+    }
+}
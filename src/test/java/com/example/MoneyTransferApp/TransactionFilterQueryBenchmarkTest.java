@@ -0,0 +1,132 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionFilterRequest;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.enums.ExportFormat;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds the transactions table and times the filtered listings. Excluded from the default build;
+ * run with {@code mvn test -Dgroups=benchmark -DexcludedGroups= -Dbenchmark.rows=2000000}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:filterQueryBenchmark")
+public class TransactionFilterQueryBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2_000_000);
+    private static final int ACCOUNTS = 10_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @BeforeAll
+    void seed() {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.now().minusDays(90);
+        TransactionStatus[] statuses = TransactionStatus.values();
+        List<Object[]> batch = new ArrayList<>(10_000);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            String id = UUID.randomUUID().toString();
+            int source = random.nextInt(ACCOUNTS);
+            int dest = (source + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(random.nextInt(90 * 24 * 3600)));
+            batch.add(new Object[]{id, id, account(source), account(dest), new BigDecimal("100.00"),
+                    new BigDecimal("0.50"), new BigDecimal("100.50"),
+                    statuses[random.nextInt(statuses.length)].name(), random.nextBoolean(), createdAt, createdAt});
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        System.out.printf("Seeded %d transactions in %d ms%n", ROWS, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @Test
+    void filteredListings() {
+        String account = account(17);
+
+        time("account, first page + count", () -> transactionRepository.findTransactionsWithFilters(
+                null, account, null, null, PageRequest.of(0, 20)));
+        time("account, page 10 + count", () -> transactionRepository.findTransactionsWithFilters(
+                null, account, null, null, PageRequest.of(10, 20)));
+        time("status + date range, first page + count", () -> transactionRepository.findTransactionsWithFilters(
+                TransactionStatus.FAILED, null, LocalDateTime.now().minusDays(7), null, PageRequest.of(0, 20)));
+        time("status, page 500 + count", () -> transactionRepository.findTransactionsWithFilters(
+                TransactionStatus.SUCCESSFUL, null, null, null, PageRequest.of(500, 20)));
+
+        Slice<Transaction> firstSlice = transactionRepository.findTransactionsWithFiltersAfter(
+                TransactionStatus.SUCCESSFUL, null, null, null, null, null, PageRequest.of(0, 20));
+        Transaction last = firstSlice.getContent().get(firstSlice.getNumberOfElements() - 1);
+        time("status, cursor page", () -> transactionRepository.findTransactionsWithFiltersAfter(
+                TransactionStatus.SUCCESSFUL, null, null, null, last.getCreatedAt(), last.getId(), PageRequest.of(0, 20)));
+        time("account, cursor page", () -> transactionRepository.findTransactionsWithFiltersAfter(
+                null, account, null, null, last.getCreatedAt(), last.getId(), PageRequest.of(0, 20)));
+
+        assertThat(firstSlice.hasNext()).isTrue();
+    }
+
+    @Test
+    void fullExport() throws Exception {
+        for (ExportFormat format : ExportFormat.values()) {
+            transactionService.exportTransactions(new TransactionFilterRequest(), format, OutputStream.nullOutputStream());
+            long startedAt = System.nanoTime();
+            long rows = transactionService.exportTransactions(new TransactionFilterRequest(), format, OutputStream.nullOutputStream());
+            long elapsedMs = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+            System.out.printf("%-45s %8d rows/sec%n", "export " + format, rows * 1000 / elapsedMs);
+            assertThat(rows).isEqualTo(ROWS);
+        }
+    }
+
+    private void time(String label, Supplier<?> query) {
+        query.get();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        System.out.printf("%-45s %8.2f ms/query%n", label, (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO transactions (id, reference, source_account_number, destination_account_number, " +
+                "amount, transaction_fee, billed_amount, status, commission_worthy, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private static String account(int index) {
+        return String.valueOf(2_000_000_000L + index);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:transactionFilterTest")
+public class TransactionFilterRepositoryIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void accountFilterMatchesBothSidesAcrossPages() {
+        transactionService.processTransfer(transfer("1000000001", "1000000002"));
+        transactionService.processTransfer(transfer("1000000002", "1000000003"));
+        transactionService.processTransfer(transfer("1000000003", "1000000002"));
+        transactionService.processTransfer(transfer("1000000004", "1000000005"));
+
+        Page<Transaction> firstPage = transactionRepository.findTransactionsWithFilters(
+                null, "1000000002", null, null, PageRequest.of(0, 2));
+        Page<Transaction> secondPage = transactionRepository.findTransactionsWithFilters(
+                null, "1000000002", null, null, PageRequest.of(1, 2));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(firstPage.getContent().get(0).getCreatedAt())
+                .isAfterOrEqualTo(firstPage.getContent().get(1).getCreatedAt());
+        assertThat(secondPage.getContent().get(0).getSourceAccountNumber()).isEqualTo("1000000001");
+
+        assertThat(transactionRepository.countTransactionsWithFilters(TransactionStatus.SUCCESSFUL, null, null, null))
+                .isEqualTo(transactionRepository.count());
+        assertThat(transactionRepository.countTransactionsWithFilters(TransactionStatus.FAILED, "1000000002", null, null))
+                .isZero();
+    }
+
+    private TransferRequest transfer(String source, String dest) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(dest);
+        request.setAmount(new BigDecimal("5.00"));
+        return request;
+    }
+}
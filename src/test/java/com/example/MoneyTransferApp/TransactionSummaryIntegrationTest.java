@@ -0,0 +1,168 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionSummaryResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.repository.TransactionRepository;
+import com.example.MoneyTransferApp.repository.TransactionSummaryRepository;
+import com.example.MoneyTransferApp.service.TransactionService;
+import com.example.MoneyTransferApp.service.serviceImpl.CommissionEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transactionSummaryTest",
+        "transfer.summary.live-counters.enabled=true"
+})
+public class TransactionSummaryIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionSummaryRepository transactionSummaryRepository;
+
+    @Autowired
+    private CommissionEngine commissionEngine;
+
+    @SpyBean
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void liveCountersMatchTheAggregateQuery() {
+        LocalDate today = LocalDate.now();
+        TransactionSummaryResponse before = transactionService.getTransactionSummary(today);
+
+        transactionService.processTransfer(transfer("1000000001", "1000000002", "100.00"));
+        assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000002", "1000000003", "40000.00")))
+                .isInstanceOf(InsufficientFundsException.class);
+        transactionService.processTransfers(List.of(
+                transfer("1000000004", "1000000005", "200.00"),
+                transfer("1000000005", "9999999999", "10.00")));
+
+        TransactionSummaryResponse live = transactionService.getTransactionSummary(today);
+        TransactionSummaryResponse aggregated = transactionService.generateTransactionSummary(today);
+
+        assertThat(live.getTotalTransactions()).isEqualTo(before.getTotalTransactions() + 3);
+        assertThat(live.getSuccessfulTransactions()).isEqualTo(aggregated.getSuccessfulTransactions());
+        assertThat(live.getTotalTransactions()).isEqualTo(aggregated.getTotalTransactions());
+        assertThat(live.getTotalAmount()).isEqualByComparingTo(aggregated.getTotalAmount());
+        assertThat(live.getTotalFees()).isEqualByComparingTo(aggregated.getTotalFees());
+        assertThat(aggregated.getTotalAmount()).isEqualByComparingTo(
+                before.getTotalAmount().add(new BigDecimal("300.00")));
+    }
+
+    @Test
+    void commissionReachesTheLiveCountersOnlyOnceItsChunkCommits() {
+        LocalDate today = LocalDate.now();
+        transactionService.processTransfer(transfer("1000000003", "1000000004", "50.00"));
+        TransactionSummaryResponse before = transactionService.getTransactionSummary(today);
+
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    throw new IllegalStateException("Commit refused");
+                }
+            });
+            // The repository is an interface proxy, so its spy delegates through the default answer
+            return mockingDetails(transactionRepository).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+        }).when(transactionRepository).sumCommissionCreatedSince(any(), any());
+
+        assertThatThrownBy(() -> commissionEngine.run()).isInstanceOf(IllegalStateException.class);
+        assertThat(transactionService.getTransactionSummary(today).getTotalCommission())
+                .isEqualByComparingTo(before.getTotalCommission());
+
+        reset(transactionRepository);
+        commissionEngine.run();
+        TransactionSummaryResponse live = transactionService.getTransactionSummary(today);
+        TransactionSummaryResponse aggregated = transactionService.generateTransactionSummary(today);
+
+        assertThat(live.getTotalCommission()).isGreaterThan(before.getTotalCommission());
+        assertThat(live.getTotalCommission()).isEqualByComparingTo(aggregated.getTotalCommission());
+    }
+
+    @Test
+    void overlappingCommissionRunsCountEachRowOnce() {
+        LocalDate today = LocalDate.now();
+        transactionService.processTransfer(transfer("1000000005", "1000000001", "80.00"));
+        List<String> candidates = transactionRepository.findCommissionCandidateIds("", PageRequest.of(0, 1000));
+        commissionEngine.run();
+        TransactionSummaryResponse before = transactionService.getTransactionSummary(today);
+
+        // A second run that picked its chunk before the first one committed
+        doReturn(candidates).when(transactionRepository).findCommissionCandidateIds(any(), any());
+        assertThat(commissionEngine.run()).isZero();
+        reset(transactionRepository);
+
+        TransactionSummaryResponse live = transactionService.getTransactionSummary(today);
+        assertThat(live.getTotalCommission()).isEqualByComparingTo(before.getTotalCommission());
+        assertThat(live.getTotalCommission()).isEqualByComparingTo(
+                transactionService.generateTransactionSummary(today).getTotalCommission());
+    }
+
+    @Test
+    void summarizesDaysWithoutTransactionsAsZero() {
+        TransactionSummaryResponse summary = transactionService.getTransactionSummary(LocalDate.of(2020, 1, 1));
+
+        assertThat(summary.getTotalTransactions()).isZero();
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(summary.getTotalCommission()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void computesAPastDayOnceUnderConcurrentRequests() throws Exception {
+        LocalDate date = LocalDate.of(2021, 6, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<TransactionSummaryResponse>> requests = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                requests.add(() -> transactionService.getTransactionSummary(date));
+            }
+            for (Future<TransactionSummaryResponse> summary : executor.invokeAll(requests)) {
+                assertThat(summary.get().getDate()).isEqualTo(date);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        transactionService.getTransactionSummary(date);
+
+        verify(transactionRepository, times(1)).summarizeCreatedBetween(
+                eq(date.atStartOfDay()), any(), eq(TransactionStatus.SUCCESSFUL));
+        assertThat(transactionSummaryRepository.findByDate(date)).isPresent();
+    }
+
+    private TransferRequest transfer(String source, String dest, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(dest);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
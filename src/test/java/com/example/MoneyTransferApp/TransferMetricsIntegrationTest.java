@@ -0,0 +1,47 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.service.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:transferMetricsTest")
+public class TransferMetricsIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recordsOutcomesAndPhasesOfATransfer() {
+        transactionService.processTransfer(transfer("1000000001", "1000000002", "10.00"));
+        assertThatThrownBy(() -> transactionService.processTransfer(transfer("1000000003", "1000000004", "999999.00")))
+                .isInstanceOf(InsufficientFundsException.class);
+
+        assertThat(meterRegistry.get("transfer.requests").tag("status", "SUCCESSFUL").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transfer.requests").tag("exception", "InsufficientFundsException").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("transfer.phase").tag("phase", "lock").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("transfer.phase").tag("phase", "balance").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transfer.phase").tag("phase", "commit").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "read-pool").gauge()).isNotNull();
+    }
+
+    private TransferRequest transfer(String source, String destination, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setDestinationAccountNumber(destination);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
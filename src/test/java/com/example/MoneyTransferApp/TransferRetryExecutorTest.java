@@ -0,0 +1,76 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.exception.InsufficientFundsException;
+import com.example.MoneyTransferApp.exception.TransferContentionException;
+import com.example.MoneyTransferApp.service.serviceImpl.TransferRetryExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TransferRetryExecutorTest {
+
+    @Test
+    void retriesLockFailuresUntilTheTransactionGoesThrough() {
+        TransferRetryExecutor retryExecutor = new TransferRetryExecutor(4, 0, 0, 0.2, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retryExecutor.execute("Transfer", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new CannotAcquireLockException("lock timeout");
+            }
+            if (attempts.get() == 2) {
+                throw new DataAccessResourceFailureException("commit failed",
+                        new SQLException("Deadlock detected", "40P01"));
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(retryExecutor.getStats().retries()).isEqualTo(2);
+        assertThat(retryExecutor.getStats().recovered()).isEqualTo(1);
+    }
+
+    @Test
+    void passesBusinessFailuresThroughWithoutRetrying() {
+        TransferRetryExecutor retryExecutor = new TransferRetryExecutor(4, 0, 0, 0.2, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("Transfer", () -> {
+            attempts.incrementAndGet();
+            throw new InsufficientFundsException("Insufficient funds");
+        })).isInstanceOf(InsufficientFundsException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void doesNotRetryUnlistedSqlStates() {
+        TransferRetryExecutor retryExecutor = new TransferRetryExecutor(4, 0, 0, 0.2, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("Transfer", () -> {
+            attempts.incrementAndGet();
+            throw new DataAccessResourceFailureException("statement failed",
+                    new SQLException("Syntax error or access violation", "41000"));
+        })).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void givesUpOnceTheRetryBudgetIsSpent() {
+        TransferRetryExecutor retryExecutor = new TransferRetryExecutor(10, 0, 0, 0.0, 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("Transfer", () -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("deadlock");
+        })).isInstanceOf(TransferContentionException.class);
+        assertThat(attempts).hasValue(3);
+        assertThat(retryExecutor.getStats().budgetRejections()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.MoneyTransferApp;
+
+import com.example.MoneyTransferApp.dto.TransactionResponse;
+import com.example.MoneyTransferApp.dto.TransferRequest;
+import com.example.MoneyTransferApp.entity.Transaction;
+import com.example.MoneyTransferApp.enums.TransactionStatus;
+import com.example.MoneyTransferApp.service.TransactionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:writeAmplificationTest",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class TransferWriteAmplificationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void transferWritesTheTransactionRowExactlyOnce() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        int transfers = 20;
+        for (int i = 0; i < transfers; i++) {
+            TransactionResponse response = transactionService.processTransfer(transfer());
+            assertThat(response.getStatus()).isEqualTo(TransactionStatus.SUCCESSFUL);
+            assertThat(response.getId()).isEqualTo(response.getReference());
+        }
+
+        EntityStatistics transactionStatistics = statistics.getEntityStatistics(Transaction.class.getName());
+        assertThat(transactionStatistics.getInsertCount()).isEqualTo(transfers);
+        assertThat(transactionStatistics.getUpdateCount()).isZero();
+        assertThat(transactionStatistics.getLoadCount()).isZero();
+    }
+
+    private TransferRequest transfer() {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber("1000000002");
+        request.setDestinationAccountNumber("1000000003");
+        request.setAmount(new BigDecimal("10.00"));
+        return request;
+    }
+}